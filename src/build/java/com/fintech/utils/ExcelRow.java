@@ -0,0 +1,80 @@
+package com.fintech.utils;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.text.SimpleDateFormat;
+import java.util.BitSet;
+
+// 🔹 One streamed sheet row: String / Double / Boolean per cell, null for blank
+public class ExcelRow {
+
+    private final int rowNum;
+    private final Object[] cells;
+    private final BitSet dateCells;
+
+    ExcelRow(int rowNum, Object[] cells, BitSet dateCells) {
+        this.rowNum = rowNum;
+        this.cells = cells;
+        this.dateCells = dateCells;
+    }
+
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    public int size() {
+        return cells.length;
+    }
+
+    public boolean isBlank(int index) {
+        return index >= cells.length || cells[index] == null;
+    }
+
+    // 🔹 Same typing as the old getCellValue: raw String / Double / Boolean, "" otherwise
+    public Object getValue(int index) {
+        return isBlank(index) ? "" : cells[index];
+    }
+
+    public Object[] toArray() {
+        Object[] values = new Object[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            values[i] = getValue(i);
+        }
+        return values;
+    }
+
+    public String getString(int index) {
+        if (isBlank(index)) return "";
+        Object value = cells[index];
+        if (value instanceof Double number) return String.valueOf(number.longValue());
+        if (value instanceof Boolean flag) return flag ? "TRUE" : "FALSE";
+        return value.toString().trim();
+    }
+
+    public Double getDouble(int index) {
+        if (isBlank(index)) return null;
+        Object value = cells[index];
+        if (value instanceof Double number) return number;
+        try {
+            return Double.parseDouble(value.toString().trim());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public Boolean getBoolean(int index) {
+        if (isBlank(index)) return false;
+        Object value = cells[index];
+        if (value instanceof Boolean flag) return flag;
+        return Boolean.parseBoolean(value.toString().trim());
+    }
+
+    // 🔹 Date-formatted numeric cells come back as MM/dd/yyyy, anything else as trimmed text
+    public String getDate(int index) {
+        if (isBlank(index)) return "";
+        if (dateCells.get(index) && cells[index] instanceof Double serial) {
+            return new SimpleDateFormat("MM/dd/yyyy").format(DateUtil.getJavaDate(serial));
+        }
+        return cells[index].toString().trim();
+    }
+}
@@ -0,0 +1,183 @@
+package com.fintech.utils;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// 🔹 Pulls sheet rows straight out of the xlsx XML, one row in memory at a time
+public class ExcelStreamReader implements Iterator<ExcelRow>, AutoCloseable {
+
+    private final OPCPackage pkg;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final StylesTable styles;
+    private final InputStream sheetStream;
+    private final XMLStreamReader xml;
+    private ExcelRow next;
+    private int lastRowNum = -1;
+    private boolean closed;
+
+    private ExcelStreamReader(String filePath, String sheetName) throws Exception {
+        // Read-only so closing never rewrites the workbook on disk
+        pkg = OPCPackage.open(new File(filePath), PackageAccess.READ);
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            styles = reader.getStylesTable();
+            sheetStream = findSheet(reader, sheetName);
+            xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetStream);
+        } catch (Exception e) {
+            pkg.revert();
+            throw e;
+        }
+    }
+
+    public static ExcelStreamReader open(String filePath, String sheetName) throws Exception {
+        return new ExcelStreamReader(filePath, sheetName);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            next = readRow();
+            if (next == null) close();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ExcelRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        ExcelRow row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            xml.close();
+            sheetStream.close();
+        } catch (Exception ignored) {
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    private static InputStream findSheet(XSSFReader reader, String sheetName) throws Exception {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            InputStream stream = sheets.next();
+            if (sheets.getSheetName().equals(sheetName)) return stream;
+            stream.close();
+        }
+        throw new IllegalArgumentException("Sheet not found: " + sheetName);
+    }
+
+    private ExcelRow readRow() {
+        try {
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && xml.getLocalName().equals("row")) {
+                    return parseRow();
+                }
+            }
+        } catch (XMLStreamException e) {
+            System.out.println("❌ Failed to stream sheet row: " + e.getMessage());
+        }
+        return null;
+    }
+
+    private ExcelRow parseRow() throws XMLStreamException {
+        String ref = xml.getAttributeValue(null, "r");
+        int rowNum = ref != null ? Integer.parseInt(ref) - 1 : lastRowNum + 1;
+        lastRowNum = rowNum;
+
+        List<Object> cells = new ArrayList<>();
+        BitSet dateCells = new BitSet();
+        int column = -1;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("row")) break;
+            if (event != XMLStreamConstants.START_ELEMENT || !xml.getLocalName().equals("c")) continue;
+
+            String cellRef = xml.getAttributeValue(null, "r");
+            column = cellRef != null ? new CellReference(cellRef).getCol() : column + 1;
+            String type = xml.getAttributeValue(null, "t");
+            String style = xml.getAttributeValue(null, "s");
+            String raw = readCellText();
+
+            while (cells.size() <= column) cells.add(null);
+            Object value = toValue(type, raw);
+            cells.set(column, value);
+            if (value instanceof Double serial && isDateStyle(style) && DateUtil.isValidExcelDate(serial)) {
+                dateCells.set(column);
+            }
+        }
+        return new ExcelRow(rowNum, cells.toArray(), dateCells);
+    }
+
+    // 🔹 Text of <v>, or the <t> runs of an inline string (phonetic runs skipped)
+    private String readCellText() throws XMLStreamException {
+        StringBuilder text = null;
+        boolean inPhonetic = false;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("c")) break;
+            if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("rPh")) inPhonetic = false;
+            if (event != XMLStreamConstants.START_ELEMENT) continue;
+
+            switch (xml.getLocalName()) {
+                case "rPh" -> inPhonetic = true;
+                case "v", "t" -> {
+                    String value = xml.getElementText();
+                    if (!inPhonetic) text = (text == null ? new StringBuilder() : text).append(value);
+                }
+                default -> { }
+            }
+        }
+        return text != null ? text.toString() : null;
+    }
+
+    private Object toValue(String type, String raw) {
+        if (raw == null) return null;
+        if (type == null) type = "n";
+        return switch (type) {
+            case "s" -> sharedStrings.getItemAt(Integer.parseInt(raw.trim())).getString();
+            case "inlineStr", "str" -> raw;
+            case "b" -> "1".equals(raw.trim()) || "true".equalsIgnoreCase(raw.trim());
+            case "e" -> null;
+            default -> {
+                try {
+                    yield Double.parseDouble(raw.trim());
+                } catch (NumberFormatException e) {
+                    yield raw;
+                }
+            }
+        };
+    }
+
+    private boolean isDateStyle(String style) {
+        if (style == null || styles == null) return false;
+        XSSFCellStyle cellStyle = styles.getStyleAt(Integer.parseInt(style));
+        return cellStyle != null && DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString());
+    }
+}
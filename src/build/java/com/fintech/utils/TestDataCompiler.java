@@ -0,0 +1,301 @@
+package com.fintech.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+// 🔹 Build step (generate-test-sources): compiles the xlsx sheets into typed records + static @DataProviders
+public class TestDataCompiler {
+
+    static final String PACKAGE = "com.fintech.dataproviders";
+    static final String PROVIDERS_CLASS = "ExcelDataProviders";
+
+    enum Kind {
+        STRING("String"), DOUBLE("Double"), BOOLEAN("Boolean"), DATE("String"), PAGE_CLASS("Class<?>");
+
+        final String javaType;
+
+        Kind(String javaType) {
+            this.javaType = javaType;
+        }
+    }
+
+    record Column(String header, String field, Kind kind) {}
+
+    // 🔹 validator adds one message per broken rule; any message fails the build
+    record Sheet(String file, String sheet, String provider, String constant, String record,
+                 List<Column> columns, BiConsumer<ExcelRow, List<String>> validator) {}
+
+    static final List<Sheet> SHEETS = List.of(
+        new Sheet("LoginData.xlsx", "Login", "excelLoginData", "LOGIN_DATA", "LoginCredential",
+            List.of(str("Username", "username"), str("Password", "password"), str("Expected", "expected")),
+            (row, errors) -> require(row, errors, 2)),
+
+        new Sheet("LoginScenarios.xlsx", "LoginTest", "loginScenarios", "LOGIN_SCENARIOS", "LoginCredential",
+            List.of(str("Username", "username"), str("Password", "password"), str("Expected", "expected")),
+            (row, errors) -> require(row, errors, 2)),
+
+        new Sheet("LoanData.xlsx", "Loantest", "loanDataExcel", "LOAN_SCENARIOS", "LoanScenario",
+            List.of(str("ScenarioLabel", "scenarioLabel"), dbl("Amount", "amount"), dbl("DownPayment", "downPayment"),
+                dbl("AccountId", "accountId"), bool("ExpectSuccess", "expectSuccess")),
+            (row, errors) -> {
+                require(row, errors, 0);
+                if (!row.getString(0).equalsIgnoreCase("missing info")) require(row, errors, 1, 2, 3);
+            }),
+
+        new Sheet("ContactData.xlsx", "Contact", "contactDataExcel", "CONTACT_SCENARIOS", "ContactScenario",
+            List.of(str("Name", "name"), str("Email", "email"), dbl("Phone", "phone"), str("Message", "message"),
+                bool("ExpectSuccess", "expectSuccess")),
+            (row, errors) -> {
+                if (row.getBoolean(4)) require(row, errors, 0, 1, 2, 3);
+            }),
+
+        new Sheet("AccountFunctionality.xlsx", "DynamicTests", "accountFunctionalityData", "ACCOUNT_SCENARIOS", "AccountScenario",
+            List.of(str("ScenarioLabel", "scenario"), str("SourceAccount", "source"), str("DestinationAccount", "destination"),
+                dbl("TransferAmount", "amount"), date("FromDate", "fromDate"), date("ToDate", "toDate"),
+                str("SortBy", "sortBy"), str("SortOrder", "sortOrder"), dbl("ExpectedBalance", "expectedBalance"),
+                bool("ExpectVisible", "expectVisible")),
+            TestDataCompiler::validateAccountScenario),
+
+        new Sheet("NavigationLinks.xlsx", "NavLinks", "navLinksExcel", "NAV_LINKS", "NavLink",
+            List.of(str("LinkText", "linkText"), str("ExpectedUrlFragment", "expectedUrlFragment"),
+                new Column("ExpectedPageClass", "pageClass", Kind.PAGE_CLASS)),
+            (row, errors) -> require(row, errors, 0, 1, 2)),
+
+        new Sheet("TransferScenarios.xlsx", "TransferTest", "transferDataExcel", "TRANSFER_SCENARIOS", "TransferScenario",
+            List.of(str("ScenarioLabel", "scenarioLabel"), str("Amount", "amount"), bool("ExpectSuccess", "expectSuccess")),
+            (row, errors) -> require(row, errors, 0))
+    );
+
+    public static void main(String[] args) throws Exception {
+        Path resources = Paths.get(args.length > 0 ? args[0] : "src/test/resources");
+        Path output = Paths.get(args.length > 1 ? args[1] : "target/generated-test-sources/testdata");
+
+        Path packageDir = output.resolve(PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDir);
+
+        List<String> errors = new ArrayList<>();
+        Map<String, List<Column>> records = new LinkedHashMap<>();
+        Map<Sheet, List<ExcelRow>> rowsBySheet = new LinkedHashMap<>();
+
+        for (Sheet sheet : SHEETS) {
+            List<Column> existing = records.putIfAbsent(sheet.record(), sheet.columns());
+            if (existing != null && !existing.equals(sheet.columns())) {
+                errors.add(sheet.record() + ": declared twice with different columns");
+            }
+            rowsBySheet.put(sheet, readSheet(resources.resolve(sheet.file()), sheet, errors));
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("❌ Test data schema errors:\n  " + String.join("\n  ", errors));
+        }
+
+        for (Map.Entry<String, List<Column>> record : records.entrySet()) {
+            write(packageDir.resolve(record.getKey() + ".java"), recordSource(record.getKey(), record.getValue()));
+        }
+        write(packageDir.resolve(PROVIDERS_CLASS + ".java"), providersSource(rowsBySheet));
+
+        int rowCount = rowsBySheet.values().stream().mapToInt(List::size).sum();
+        System.out.println("✅ Compiled " + rowCount + " test data rows from " + SHEETS.size() + " sheets into " + packageDir);
+    }
+
+    private static List<ExcelRow> readSheet(Path file, Sheet sheet, List<String> errors) {
+        List<ExcelRow> rows = new ArrayList<>();
+        String source = sheet.file() + " [" + sheet.sheet() + "]";
+
+        try (ExcelStreamReader reader = ExcelStreamReader.open(file.toString(), sheet.sheet())) {
+            if (!reader.hasNext()) {
+                errors.add(source + ": missing header row");
+                return rows;
+            }
+
+            ExcelRow header = reader.next();
+            for (int i = 0; i < sheet.columns().size(); i++) {
+                String expected = sheet.columns().get(i).header();
+                if (!header.getString(i).equalsIgnoreCase(expected)) {
+                    errors.add(source + ": column " + (i + 1) + " should be '" + expected + "' but is '" + header.getString(i) + "'");
+                }
+            }
+
+            while (reader.hasNext()) {
+                ExcelRow row = reader.next();
+                if (isEmpty(row)) continue;
+
+                List<String> rowErrors = new ArrayList<>();
+                sheet.validator().accept(row, rowErrors);
+                checkTypes(row, sheet.columns(), rowErrors);
+                for (String error : rowErrors) {
+                    errors.add(source + " row " + (row.getRowNum() + 1) + ": " + error);
+                }
+                rows.add(row);
+            }
+        } catch (Exception e) {
+            errors.add(source + ": " + e.getMessage());
+        }
+        return rows;
+    }
+
+    private static void checkTypes(ExcelRow row, List<Column> columns, List<String> errors) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (row.isBlank(i)) continue;
+            Column column = columns.get(i);
+            Object value = row.getValue(i);
+
+            switch (column.kind()) {
+                case DOUBLE -> {
+                    if (row.getDouble(i) == null) errors.add(column.header() + " is not a number: '" + value + "'");
+                }
+                case BOOLEAN -> {
+                    String text = value.toString().trim();
+                    if (!(value instanceof Boolean) && !text.equalsIgnoreCase("true") && !text.equalsIgnoreCase("false")) {
+                        errors.add(column.header() + " is not TRUE/FALSE: '" + value + "'");
+                    }
+                }
+                case PAGE_CLASS -> {
+                    try {
+                        Class.forName("com.fintech.pages." + row.getString(i));
+                    } catch (ClassNotFoundException e) {
+                        errors.add(column.header() + " names an unknown page class: '" + row.getString(i) + "'");
+                    }
+                }
+                default -> { }
+            }
+        }
+    }
+
+    // 🔹 Same rules TestDataProvider.rowHasEmptyCells applied at runtime, now enforced at build time
+    private static void validateAccountScenario(ExcelRow row, List<String> errors) {
+        switch (row.getString(0).toLowerCase()) {
+            case "balance update after transfer" -> require(row, errors, 1, 2, 3, 4);
+            case "filter transactions by date range" -> require(row, errors, 1, 4, 5);
+            case "sort transactions by date/amount" -> require(row, errors, 1, 6, 7);
+            case "validate account summary" -> require(row, errors, 1, 8);
+            case "" -> errors.add("ScenarioLabel is required");
+            default -> errors.add("unknown scenario '" + row.getString(0) + "'");
+        }
+    }
+
+    private static void require(ExcelRow row, List<String> errors, int... columns) {
+        for (int column : columns) {
+            if (row.isBlank(column)) errors.add("column " + (column + 1) + " is required");
+        }
+    }
+
+    private static boolean isEmpty(ExcelRow row) {
+        for (int i = 0; i < row.size(); i++) {
+            if (!row.isBlank(i)) return false;
+        }
+        return true;
+    }
+
+    private static String recordSource(String record, List<Column> columns) {
+        String components = columns.stream()
+            .map(c -> c.kind().javaType + " " + c.field())
+            .collect(Collectors.joining(", "));
+        String parameters = columns.stream().map(Column::field).collect(Collectors.joining(", "));
+
+        return header()
+            + "public record " + record + "(" + components + ") {\n\n"
+            + "    public Object[] toParameters() {\n"
+            + "        return new Object[]{" + parameters + "};\n"
+            + "    }\n"
+            + "}\n";
+    }
+
+    private static String providersSource(Map<Sheet, List<ExcelRow>> rowsBySheet) {
+        StringBuilder src = new StringBuilder(header())
+            .append("import org.testng.annotations.DataProvider;\n\n")
+            .append("import java.util.List;\n\n")
+            .append("public final class ").append(PROVIDERS_CLASS).append(" {\n\n")
+            .append("    private ").append(PROVIDERS_CLASS).append("() {}\n");
+
+        for (Map.Entry<Sheet, List<ExcelRow>> entry : rowsBySheet.entrySet()) {
+            Sheet sheet = entry.getKey();
+            src.append("\n    // ").append(sheet.file()).append(" [").append(sheet.sheet()).append("]\n")
+                .append("    public static final List<").append(sheet.record()).append("> ").append(sheet.constant())
+                .append(" = List.of(\n");
+
+            List<ExcelRow> rows = entry.getValue();
+            for (int r = 0; r < rows.size(); r++) {
+                List<String> literals = new ArrayList<>();
+                for (int i = 0; i < sheet.columns().size(); i++) {
+                    literals.add(literal(rows.get(r), i, sheet.columns().get(i).kind()));
+                }
+                src.append("        new ").append(sheet.record()).append("(").append(String.join(", ", literals)).append(")")
+                    .append(r < rows.size() - 1 ? ",\n" : "\n");
+            }
+            src.append("    );\n\n")
+                .append("    @DataProvider(name = \"").append(sheet.provider()).append("\")\n")
+                .append("    public static Object[][] ").append(sheet.provider()).append("() {\n")
+                .append("        return ").append(sheet.constant()).append(".stream().map(")
+                .append(sheet.record()).append("::toParameters).toArray(Object[][]::new);\n")
+                .append("    }\n");
+        }
+        return src.append("}\n").toString();
+    }
+
+    private static String literal(ExcelRow row, int index, Kind kind) {
+        return switch (kind) {
+            case STRING -> quote(row.getString(index));
+            case DATE -> quote(row.getDate(index));
+            case DOUBLE -> {
+                Double value = row.getDouble(index);
+                yield value == null ? "null" : Double.toString(value);
+            }
+            case BOOLEAN -> String.valueOf(row.getBoolean(index));
+            case PAGE_CLASS -> "com.fintech.pages." + row.getString(index) + ".class";
+        };
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) quoted.append(String.format("\\u%04x", (int) c));
+                    else quoted.append(c);
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static String header() {
+        return "package " + PACKAGE + ";\n\n"
+            + "// Generated by " + TestDataCompiler.class.getName() + " from src/test/resources — do not edit\n";
+    }
+
+    private static Column str(String header, String field) {
+        return new Column(header, field, Kind.STRING);
+    }
+
+    private static Column dbl(String header, String field) {
+        return new Column(header, field, Kind.DOUBLE);
+    }
+
+    private static Column bool(String header, String field) {
+        return new Column(header, field, Kind.BOOLEAN);
+    }
+
+    private static Column date(String header, String field) {
+        return new Column(header, field, Kind.DATE);
+    }
+
+    private static void write(Path file, String source) throws IOException {
+        if (Files.exists(file) && Files.readString(file, StandardCharsets.UTF_8).equals(source)) return;
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+    }
+}
@@ -1,11 +1,14 @@
 package com.fintech.pages;
 
+import com.fintech.utils.ConfigReader;
+import com.fintech.utils.ParaBankApiClient;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 
+import java.math.BigDecimal;
 import java.util.*;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
@@ -36,6 +39,11 @@ public class AccountPage extends BasePage {
         PageFactory.initElements(driver, this);
     }
 
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
+
     @Override
     public boolean isLoaded() {
         return isDisplayed(accountsHeader);
@@ -77,11 +85,11 @@ public class AccountPage extends BasePage {
 
         while (accounts.size() < 2 && attempts < 3) {
             System.out.println("🔧 Creating account — current count: " + accounts.size());
-            click(openNewAccountLink);
+            clickAndNavigate(openNewAccountLink);
             waitForVisibility(openAccountBtn);
             click(openAccountBtn);
             waitForVisibility(By.id("newAccountId")); // or any confirmation element
-            safeSleep(1000); // optional buffer
+            waitForDomStable(By.id("rightPanel"));
             accounts = getAccountNames();
             attempts++;
         }
@@ -101,6 +109,38 @@ public class AccountPage extends BasePage {
         }
     }
 
+    // 🔹 Same guarantee through the REST API: no Open New Account clicks or sleeps
+    public AccountPage ensureTwoAccounts(ParaBankApiClient api, int customerId) {
+        List<ParaBankApiClient.Account> accounts = api.getAccounts(customerId);
+        int attempts = 0;
+
+        while (accounts.size() < 2 && attempts < 3) {
+            if (accounts.isEmpty()) {
+                throw new RuntimeException("❌ Customer " + customerId + " has no account to fund a new one from");
+            }
+            System.out.println("🔧 Creating account via API — current count: " + accounts.size());
+            api.createAccount(customerId, ParaBankApiClient.AccountType.CHECKING, accounts.get(0).id());
+            accounts = api.getAccounts(customerId);
+            attempts++;
+        }
+
+        if (accounts.size() < 2) {
+            throw new RuntimeException("❌ Failed to create two accounts after " + attempts + " attempts");
+        }
+
+        if (attempts > 0 && !driver.findElements(By.id("accountTable")).isEmpty()) {
+            driver.navigate().refresh();
+        }
+        System.out.println("✅ Accounts ready (API): " + accounts.stream().map(a -> String.valueOf(a.id())).toList());
+        return this;
+    }
+
+    public AccountPage ensureTwoAccountsSafely(ParaBankApiClient api, int customerId) {
+        synchronized (accountLock) {
+            return ensureTwoAccounts(api, customerId);
+        }
+    }
+
     public AccountPage openAccountByName(String name) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("❌ Account name is null or empty");
@@ -109,8 +149,8 @@ public class AccountPage extends BasePage {
         for (WebElement row : accountRows) {
             for (WebElement link : row.findElements(By.tagName("a"))) {
                 if (link.getText().trim().equals(name)) {
-                    click(link);
-                    safeSleep(1000);
+                    clickAndNavigate(link);
+                    waitForDomStable(By.id("rightPanel"));
                     logBalance(name);
                     return this;
                 }
@@ -121,8 +161,8 @@ public class AccountPage extends BasePage {
         if (!accountRows.isEmpty()) {
             List<WebElement> fallbackLinks = accountRows.get(0).findElements(By.tagName("a"));
             if (!fallbackLinks.isEmpty()) {
-                click(fallbackLinks.get(0));
-                safeSleep(1000);
+                clickAndNavigate(fallbackLinks.get(0));
+                waitForDomStable(By.id("rightPanel"));
                 logBalance(name);
             }
         }
@@ -164,35 +204,62 @@ public class AccountPage extends BasePage {
         }
     }
 
+    // 🔹 All overview balances in one scripted read: account id → balance, in table order
+    private static final String READ_BALANCES_SCRIPT =
+        "var result = [];" +
+        "document.querySelectorAll('#accountTable tbody tr').forEach(function (row) {" +
+        "  var link = row.querySelector(\"a[href*='activity.htm?id=']\");" +
+        "  var cells = row.querySelectorAll('td');" +
+        "  if (link && cells.length > 1) result.push([link.textContent.trim(), cells[1].textContent.trim()]);" +
+        "});" +
+        "return result;";
+
+    @SuppressWarnings("unchecked")
+    public Map<String, BigDecimal> getBalanceSnapshot() {
+        if (driver.findElements(By.id("accountTable")).isEmpty()) {
+            navigateTo(ConfigReader.pageUrl("overview.htm"));
+        }
+        waitForNetworkIdle(); // balances are filled by AJAX after load
+        wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("#accountTable tbody tr a")));
+
+        Map<String, BigDecimal> balances = new LinkedHashMap<>();
+        List<List<String>> rows = (List<List<String>>) ((JavascriptExecutor) driver).executeScript(READ_BALANCES_SCRIPT);
+        for (List<String> row : rows) {
+            String digits = row.get(1).replaceAll("[^\\d.-]", "");
+            if (!row.get(0).matches("\\d+") || digits.isEmpty()) continue;
+            try {
+                balances.put(row.get(0), new BigDecimal(digits));
+            } catch (NumberFormatException e) {
+                System.out.println("⚠️ Unparseable balance for " + row.get(0) + ": " + row.get(1));
+            }
+        }
+
+        System.out.println("✅ Balance snapshot: " + balances);
+        return Collections.unmodifiableMap(balances);
+    }
+
     public double getBalance(String accountType) {
         openAccountByName(accountType);
         return getBalanceFromCurrentPage();
     }
 
     public AccountPage goToTransactionHistory() {
-        List<By> locators = Arrays.asList(
+        By linkLocator = firstMatching("transactionsLink",
             By.linkText("Transactions"),
             By.linkText("Transaction History"),
             By.partialLinkText("Transaction"),
             By.cssSelector("a[href*='transaction']")
         );
 
-        for (By locator : locators) {
+        if (linkLocator != null) {
             try {
-            	System.out.println("🔍 Trying locator: " + locator);
-            	System.out.println("Page title: " + driver.getTitle());
-            	System.out.println("Current URL: " + driver.getCurrentUrl());
-
-            	WebElement txLink = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            	waitForVisibility(txLink); // ✅ Add this line
-            	if (txLink.isDisplayed()) {
-            	    ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", txLink);
-            	    wait.until(ExpectedConditions.elementToBeClickable(txLink)).click();
-                    wait.until(ExpectedConditions.presenceOfElementLocated(By.id("transactionTable")));
-                    return this;
-                }
+                WebElement txLink = driver.findElement(linkLocator);
+                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", txLink);
+                wait.until(ExpectedConditions.elementToBeClickable(txLink)).click();
+                wait.until(ExpectedConditions.presenceOfElementLocated(By.id("transactionTable")));
+                return this;
             } catch (Exception e) {
-                System.out.println("⚠️ Locator failed: " + locator + " → " + e.getMessage());
+                System.out.println("⚠️ Locator failed: " + linkLocator + " → " + e.getMessage());
             }
         }
 
@@ -215,10 +282,10 @@ public class AccountPage extends BasePage {
                 break;
             } catch (Exception e) {
                 System.out.println("⚠️ Attempt " + (i + 1) + " failed to click Filter button");
-                safeSleep(1000);
+                waitForDomStable();
             }
         }
-        safeSleep(2000);
+        waitForDomStable(By.id("transactionTable"));
         return this;
     }
 
@@ -227,11 +294,11 @@ public class AccountPage extends BasePage {
             By sortLinkLocator = By.xpath("//th[contains(text(),'" + field + "')]");
             jsClick(sortLinkLocator);
             System.out.println("✅ Clicked sort link: " + field);
-            safeSleep(2000);
+            waitForDomStable(By.id("transactionTable"));
             if (order.equalsIgnoreCase("Descending")) {
                 click(sortLinkLocator); // toggle
                 System.out.println("✅ Toggled to descending sort");
-                safeSleep(2000);
+                waitForDomStable(By.id("transactionTable"));
             }
         } catch (Exception e) {
             captureScreenshot("SortLinkFailure_" + field);
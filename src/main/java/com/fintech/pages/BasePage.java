@@ -5,9 +5,19 @@ import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.*;
 
 import com.fintech.utils.ConfigReader;
+import com.fintech.utils.DeadlineWait;
+import com.fintech.utils.FlightEvents;
+import com.fintech.utils.LocatorRanking;
+import com.fintech.utils.NavigationTiming;
+import com.fintech.utils.NetworkIdleTracker;
+import com.fintech.utils.ScreenshotService;
+import com.fintech.utils.SleepLedger;
+import com.fintech.utils.TestDeadline;
+import com.fintech.utils.Tracer;
 
 import java.time.Duration;
-import java.io.File;
+import java.util.Arrays;
+import java.util.List;
 
 
 public abstract class BasePage {
@@ -16,10 +26,50 @@ public abstract class BasePage {
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(getWaitTime()));
+        this.wait = new DeadlineWait(driver, Duration.ofSeconds(getWaitTime())).abortWhen(d -> errorPageDiagnostics());
         PageFactory.initElements(driver, this); // ✅ Enables @FindBy support
     }
 
+    // 🔹 Pages behind the login override this, so a bounce to login.htm or the error page aborts their waits
+    protected boolean requiresLogin() {
+        return false;
+    }
+
+    // 🔹 Error-page guard for `wait`: one script call per unsatisfied poll. Outcome checks (waitForAny,
+    //    isDisplayedWithin) stay unguarded because an error there is an expected answer. Only rendered error nodes
+    //    count — transfer/open-account/loan pages carry a hidden #showError block with the internal-error text.
+    private static final String PAGE_STATE_SCRIPT =
+        "var e = Array.prototype.find.call(document.querySelectorAll('#rightPanel .error')," +
+        "  function (n) { return n.getClientRects().length > 0; });" +
+        "return [document.title, location.href, e ? (e.innerText || e.textContent || '').trim() : ''," +
+        "  !!document.querySelector(\"form[name='login']\")];";
+
+    protected String errorPageDiagnostics() {
+        List<?> state;
+        try {
+            state = (List<?>) ((JavascriptExecutor) driver).executeScript(PAGE_STATE_SCRIPT);
+        } catch (WebDriverException e) {
+            return null; // mid-navigation — keep polling
+        }
+        String title = String.valueOf(state.get(0));
+        String url = String.valueOf(state.get(1));
+        String error = String.valueOf(state.get(2));
+        boolean loginForm = Boolean.TRUE.equals(state.get(3));
+
+        String reason = null;
+        if (error.toLowerCase().contains("internal error")) {
+            reason = "ParaBank internal error";
+        } else if (requiresLogin() && (url.contains("login.htm") || loginForm)) {
+            reason = "Session lost — redirected to login";
+        } else if (requiresLogin() && title.toLowerCase().contains("error")) {
+            reason = "ParaBank error page";
+        }
+        if (reason == null) return null;
+
+        captureScreenshot("ErrorPage_" + getClass().getSimpleName());
+        return reason + " [title: " + title + ", url: " + url + (error.isEmpty() ? "" : ", error: " + error) + "]";
+    }
+
     // 🔹 Configurable wait time
     protected int getWaitTime() {
         return Integer.parseInt(ConfigReader.get("defaultWait", "15"));
@@ -27,23 +77,131 @@ public abstract class BasePage {
 
     // 🔹 Navigation
     public BasePage navigateTo(String url) {
-        driver.get(url);
+        try (Tracer.Span span = Tracer.span("navigateTo", "action", url)) {
+            driver.get(url);
+        }
+        recordNavigation();
         return this;
     }
 
-    // 🔹 Fluent sleep
+    // 🔹 For links and submits known to load a new page: click, then record that page's Navigation Timing
+    public BasePage clickAndNavigate(By locator) {
+        click(locator);
+        recordNavigation();
+        return this;
+    }
+
+    public BasePage clickAndNavigate(WebElement element) {
+        click(element);
+        recordNavigation();
+        return this;
+    }
+
+    // 🔹 After a navigation: one script call, tagged with this page object as the trigger
+    protected void recordNavigation() {
+        NavigationTiming.Sample sample = NavigationTiming.capture(driver, getClass().getSimpleName());
+        if (sample != null) System.out.println("🚦 " + sample.describe());
+    }
+
+    // 🔹 Fluent sleep (recorded in the SleepLedger report — prefer waitForDomStable)
     public BasePage safeSleep(int millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException ignored) {
-            Thread.currentThread().interrupt();
+        SleepLedger.sleep(millis);
+        return this;
+    }
+
+    // 🔹 Event-driven settle: resolves once the subtree has had no node/text mutations for a quiet period and readyState
+    //    is complete; attribute churn (spinners, focus styles) is ignored and the wait is capped by domStable.maxMillis
+    private static final String DOM_STABLE_SCRIPT =
+        "var target = arguments[0] || document.body, quiet = arguments[1], max = arguments[2];" +
+        "var done = arguments[arguments.length - 1], timer, observer, settled = false;" +
+        "function finish(result) { if (settled) return; settled = true; clearTimeout(timer); if (observer) observer.disconnect(); done(result); }" +
+        "function arm() { clearTimeout(timer); timer = setTimeout(function () {" +
+        "  if (document.readyState === 'complete') finish(true); else arm(); }, quiet); }" +
+        "if (!target) { finish(false); return; }" +
+        "observer = new MutationObserver(arm);" +
+        "observer.observe(target, {childList: true, subtree: true, characterData: true});" +
+        "setTimeout(function () { finish(false); }, max);" +
+        "arm();";
+
+    public BasePage waitForDomStable() {
+        return waitForDomStable(null);
+    }
+
+    public BasePage waitForDomStable(By scope) {
+        long quietMillis = Long.parseLong(ConfigReader.get("domStable.quietMillis", "250"));
+        long maxMillis = TestDeadline.clamp(Duration.ofMillis(Long.parseLong(ConfigReader.get("domStable.maxMillis", "3000")))).toMillis();
+        try (Tracer.Span span = Tracer.span("waitForDomStable", "wait", scope);
+             FlightEvents.PageWait event = FlightEvents.pageWait("DOM stable under " + (scope != null ? scope : "body"), maxMillis)) {
+            WebElement target = null;
+            if (scope != null) {
+                List<WebElement> found = driver.findElements(scope);
+                if (!found.isEmpty()) target = found.get(0);
+            }
+            Object stable = ((JavascriptExecutor) driver).executeAsyncScript(DOM_STABLE_SCRIPT, target, quietMillis, maxMillis);
+            event.outcome = Boolean.TRUE.equals(stable) ? "met" : "timeout";
+            if (!Boolean.TRUE.equals(stable)) {
+                System.out.println("⚠️ DOM did not settle within " + maxMillis + " ms" + (scope != null ? " under " + scope : ""));
+            }
+        } catch (WebDriverException e) {
+            // Navigation tore down the script's document — settle on the new page's readyState instead
+            wait.until(d -> "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState")));
+        }
+        return this;
+    }
+
+    // 🔹 Network-idle wait: BiDi request tracking when the session has it, otherwise an XHR/fetch + resource-timing probe
+    private static final String NETWORK_QUIET_SCRIPT =
+        "var s = window.__netIdle;" +
+        "if (!s) {" +
+        "  s = window.__netIdle = {inflight: 0, last: Date.now()};" +
+        "  var send = XMLHttpRequest.prototype.send;" +
+        "  XMLHttpRequest.prototype.send = function () {" +
+        "    s.inflight++; s.last = Date.now();" +
+        "    this.addEventListener('loadend', function () { s.inflight--; s.last = Date.now(); });" +
+        "    return send.apply(this, arguments); };" +
+        "  if (window.fetch) { var f = window.fetch; window.fetch = function () {" +
+        "    s.inflight++; s.last = Date.now();" +
+        "    return f.apply(this, arguments).finally(function () { s.inflight--; s.last = Date.now(); }); }; }" +
+        "}" +
+        "var lastEnd = 0;" +
+        "performance.getEntriesByType('resource').forEach(function (e) { lastEnd = Math.max(lastEnd, e.responseEnd); });" +
+        "var last = Math.max(s.last, performance.timeOrigin + lastEnd);" +
+        "return document.readyState === 'complete' && s.inflight <= 0 && Date.now() - last >= arguments[0];";
+
+    public BasePage waitForNetworkIdle() {
+        return waitForNetworkIdle(Long.parseLong(ConfigReader.get("networkIdle.quietMillis", "500")));
+    }
+
+    public BasePage waitForNetworkIdle(long quietMillis) {
+        Duration timeout = TestDeadline.clamp(Duration.ofSeconds(getWaitTime()));
+        NetworkIdleTracker tracker = NetworkIdleTracker.forDriver(driver);
+        try (Tracer.Span span = Tracer.span("waitForNetworkIdle", "wait", tracker != null ? "bidi" : "script");
+             FlightEvents.PageWait event = FlightEvents.pageWait("network idle (" + (tracker != null ? "bidi" : "script") + ")", timeout.toMillis())) {
+            if (tracker != null) {
+                boolean idle = tracker.awaitIdle(Duration.ofMillis(quietMillis), timeout);
+                event.outcome = idle ? "met" : "timeout";
+                if (!idle) {
+                    System.out.println("⚠️ Network not idle after " + timeout.toSeconds() + " s (" + tracker.inFlightCount() + " in flight)");
+                }
+                return this;
+            }
+
+            try {
+                new DeadlineWait(driver, timeout, Duration.ofMillis(50)).describedAs("network quiet probe")
+                    .until(d -> Boolean.TRUE.equals(((JavascriptExecutor) d).executeScript(NETWORK_QUIET_SCRIPT, quietMillis)));
+                event.outcome = "met";
+            } catch (TimeoutException e) {
+                event.outcome = "timeout";
+                System.out.println("⚠️ Network not idle after " + timeout.toSeconds() + " s");
+            }
         }
         return this;
     }
 
     // 🔹 Fluent typing
     public BasePage type(By locator, String text) {
-        try {
+        try (Tracer.Span span = Tracer.span("type", "action", locator);
+             FlightEvents.PageAction event = FlightEvents.pageAction(this, "type", locator)) {
             WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
             element.clear();
             element.sendKeys(text);
@@ -55,44 +213,54 @@ public abstract class BasePage {
     }
 
     public BasePage type(WebElement element, String text) {
-        wait.until(ExpectedConditions.visibilityOf(element));
-        element.clear();
-        element.sendKeys(text);
+        try (Tracer.Span span = Tracer.span("type", "action", element);
+             FlightEvents.PageAction event = FlightEvents.pageAction(this, "type", element)) {
+            wait.until(ExpectedConditions.visibilityOf(element));
+            element.clear();
+            element.sendKeys(text);
+        }
         return this;
     }
 
     // 🔹 Fluent click
     public BasePage click(By locator) {
-        WebElement el = wait.until(ExpectedConditions.elementToBeClickable(locator));
-        el.click();
+        try (Tracer.Span span = Tracer.span("click", "action", locator);
+             FlightEvents.PageAction event = FlightEvents.pageAction(this, "click", locator)) {
+            WebElement el = wait.until(ExpectedConditions.elementToBeClickable(locator));
+            el.click();
+        }
         return this;
     }
 
     public BasePage click(WebElement element) {
-        wait.until(ExpectedConditions.elementToBeClickable(element)).click();
+        try (Tracer.Span span = Tracer.span("click", "action", element);
+             FlightEvents.PageAction event = FlightEvents.pageAction(this, "click", element)) {
+            wait.until(ExpectedConditions.elementToBeClickable(element)).click();
+        }
         return this;
     }
 
     public BasePage jsClick(By locator) {
-        WebElement el = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
+        try (Tracer.Span span = Tracer.span("jsClick", "action", locator);
+             FlightEvents.PageAction event = FlightEvents.pageAction(this, "jsClick", locator)) {
+            WebElement el = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
+        }
         return this;
     }
 
     public BasePage jsClick(WebElement element) {
-        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        try (Tracer.Span span = Tracer.span("jsClick", "action", element);
+             FlightEvents.PageAction event = FlightEvents.pageAction(this, "jsClick", element)) {
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        }
         return this;
     }
 
     // 🔹 Screenshot
     public void captureScreenshot(String name) {
         try {
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            String timestamp = java.time.LocalDateTime.now()
-                .format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            File dest = new File("target/screenshots", name + "_" + timestamp + ".png");
-            org.apache.commons.io.FileUtils.copyFile(screenshot, dest);
-            System.out.println("📸 Screenshot saved: " + dest.getAbsolutePath());
+            ScreenshotService.capture(driver, name);
         } catch (Exception e) {
             System.out.println("⚠️ Screenshot failed: " + e.getMessage());
         }
@@ -119,6 +287,96 @@ public abstract class BasePage {
         return driver.findElements(locator).size() > 0;
     }
 
+    // 🔹 Non-waiting and short-deadline checks — use these when the element is expected to be absent
+    protected Duration shortWait() {
+        return Duration.ofMillis(Long.parseLong(ConfigReader.get("shortWait.millis", "1000")));
+    }
+
+    public boolean isDisplayedNow(By locator) {
+        try {
+            return driver.findElements(locator).stream().anyMatch(WebElement::isDisplayed);
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    public boolean isDisplayedNow(WebElement element) {
+        try {
+            return element.isDisplayed();
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    public boolean isDisplayedWithin(By locator, Duration timeout) {
+        return pollUntil(timeout, "visible " + locator, () -> isDisplayedNow(locator));
+    }
+
+    public boolean isDisplayedWithin(WebElement element, Duration timeout) {
+        return pollUntil(timeout, "visible " + element, () -> isDisplayedNow(element));
+    }
+
+    public String getTextNow(By locator) {
+        try {
+            return driver.findElements(locator).stream()
+                .filter(WebElement::isDisplayed)
+                .map(el -> el.getText().trim())
+                .findFirst()
+                .orElse("");
+        } catch (WebDriverException e) {
+            return "";
+        }
+    }
+
+    // 🔹 Either-of wait: index of the first locator that becomes visible (e.g. success vs error), -1 on timeout
+    public int waitForAny(By... locators) {
+        return waitForAny(Duration.ofSeconds(getWaitTime()), locators);
+    }
+
+    public int waitForAny(Duration timeout, By... locators) {
+        try (Tracer.Span span = Tracer.span("waitForAny", "wait", Arrays.toString(locators))) {
+            return new DeadlineWait(driver, timeout, Duration.ofMillis(100))
+                .describedAs("any of " + Arrays.toString(locators))
+                .until(d -> {
+                    for (int i = 0; i < locators.length; i++) {
+                        if (isDisplayedNow(locators[i])) return i;
+                    }
+                    return null;
+                });
+        } catch (TimeoutException e) {
+            return -1;
+        }
+    }
+
+    // 🔹 Fallback chain: the historical winner gets a short first try, the rest are raced only after; null if none show
+    protected By firstMatching(String chain, By... candidates) {
+        String key = getClass().getSimpleName() + "." + chain;
+        List<By> ranked = LocatorRanking.rank(key, Arrays.asList(candidates));
+        Duration firstTry = Duration.ofMillis(Long.parseLong(ConfigReader.get("locatorRanking.firstTryMillis", "2000")));
+
+        By winner = null;
+        if (isDisplayedWithin(ranked.get(0), firstTry)) {
+            winner = ranked.get(0);
+        } else {
+            int index = waitForAny(ranked.toArray(By[]::new));
+            if (index >= 0) {
+                winner = ranked.get(index);
+                System.out.println("🔀 " + key + " matched fallback " + winner + " (ranked " + (index + 1) + ")");
+            }
+        }
+        if (winner != null) LocatorRanking.recordWin(key, winner);
+        return winner;
+    }
+
+    private boolean pollUntil(Duration timeout, String description, java.util.function.BooleanSupplier check) {
+        try {
+            return new DeadlineWait(driver, timeout, Duration.ofMillis(100)).describedAs(description)
+                .until(d -> check.getAsBoolean());
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
     // 🔹 Text and style
     public String getText(By locator) {
         try {
@@ -146,7 +404,8 @@ public abstract class BasePage {
 
     // 🔹 Dropdown
     public BasePage selectDropdown(By locator, String visibleText) {
-        try {
+        try (Tracer.Span span = Tracer.span("selectDropdown", "action", locator + " → " + visibleText);
+             FlightEvents.PageAction event = FlightEvents.pageAction(this, "selectDropdown", locator)) {
             Select dropdown = new Select(driver.findElement(locator));
             dropdown.selectByVisibleText(visibleText);
         } catch (NoSuchElementException e) {
@@ -157,7 +416,8 @@ public abstract class BasePage {
     }
 
     public BasePage selectDropdown(WebElement dropdownElement, String visibleText) {
-        try {
+        try (Tracer.Span span = Tracer.span("selectDropdown", "action", visibleText);
+             FlightEvents.PageAction event = FlightEvents.pageAction(this, "selectDropdown", dropdownElement)) {
             Select dropdown = new Select(dropdownElement);
             dropdown.selectByVisibleText(visibleText);
         } catch (NoSuchElementException e) {
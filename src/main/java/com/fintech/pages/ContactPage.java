@@ -22,11 +22,9 @@ public class ContactPage extends BasePage {
     @FindBy(xpath = "//input[@value='Send' or @type='submit']")
     private WebElement submitButton;
 
-    @FindBy(css = "#rightPanel .title, #rightPanel .result")
-    private WebElement successMessage;
-
-    @FindBy(css = "#rightPanel .error")
-    private WebElement errorMessage;
+    // 🔹 Submit outcomes: the "Thank you" confirmation or per-field validation errors
+    private static final By THANK_YOU = By.xpath("//*[@id='rightPanel']//p[contains(.,'Thank you')] | //*[@id='rightPanel']//*[contains(@class,'result')]");
+    private static final By FIELD_ERROR = By.cssSelector("#rightPanel .error");
 
     @FindBy(xpath = "//h1[contains(text(),'Customer Care')]")
     private WebElement contactHeader;
@@ -42,7 +40,7 @@ public class ContactPage extends BasePage {
     }
 
     public ContactPage openForm() {
-        click(By.linkText("Contact Us"));
+        clickAndNavigate(By.linkText("Contact Us"));
         waitForVisibility(nameField);
         System.out.println("✅ Contact form opened.");
         return this;
@@ -74,9 +72,8 @@ public class ContactPage extends BasePage {
     }
 
     public String getResponse() {
-        String response = getText(successMessage);
-        if (response.isEmpty()) response = getText(errorMessage);
-        if (response.equalsIgnoreCase("customer care")) response = "";
+        int outcome = waitForAny(THANK_YOU, FIELD_ERROR);
+        String response = outcome < 0 ? "" : getTextNow(outcome == 0 ? THANK_YOU : FIELD_ERROR);
 
         if (response.isEmpty()) {
             try {
@@ -1,5 +1,6 @@
 package com.fintech.pages;
 
+import com.fintech.utils.ConfigReader;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
@@ -42,13 +43,18 @@ public class LoanPage extends BasePage {
         PageFactory.initElements(driver, this);
     }
 
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
+
     @Override
     public boolean isLoaded() {
         return isLoanFormLoaded();
     }
 
     public LoanPage open() {
-        navigateTo("https://parabank.parasoft.com/parabank/requestloan.htm");
+        navigateTo(ConfigReader.pageUrl("requestloan.htm"));
 
         for (int i = 0; i < 3; i++) {
             if (isDisplayed(fromAccountDropdown)) break;
@@ -157,7 +163,7 @@ public class LoanPage extends BasePage {
 
     public String getBalanceForAccount(String accountId) {
         try {
-            navigateTo("https://parabank.parasoft.com/parabank/overview.htm");
+            navigateTo(ConfigReader.pageUrl("overview.htm"));
             WebElement balanceCell = driver.findElement(
                 By.xpath("//a[text()='" + accountId + "']/ancestor::td/following-sibling::td")
             );
@@ -174,7 +180,7 @@ public class LoanPage extends BasePage {
     }
 
     public void logAllAccountBalances() {
-        navigateTo("https://parabank.parasoft.com/parabank/overview.htm");
+        navigateTo(ConfigReader.pageUrl("overview.htm"));
         List<WebElement> rows = driver.findElements(By.xpath("//table[contains(@id,'accountTable')]//tr[td]"));
         for (WebElement row : rows) {
             if (!row.getText().matches(".*\\d{4,}.*")) continue;
@@ -190,7 +196,7 @@ public class LoanPage extends BasePage {
 
     public void logout() {
         try {
-            click(By.linkText("Log Out"));
+            clickAndNavigate(By.linkText("Log Out"));
         } catch (Exception e) {
             try {
                 driver.findElement(By.linkText("Log Out")).click();
@@ -18,45 +18,45 @@ public class NavigationPage extends BasePage {
 
     @Override
     public boolean isLoaded() {
-        return isDisplayed(homeLink) || isDisplayed(logo);
+        return firstMatching("home", homeLink, logo) != null;
     }
 
     public NavigationPage goHome() {
-        click(homeLink);
+        clickAndNavigate(homeLink);
         return this;
     }
 
     public NavigationPage goToAccounts() {
-        click(accountsLink);
+        clickAndNavigate(accountsLink);
         return this;
     }
 
     public NavigationPage goToTransfer() {
-        click(transferLink);
+        clickAndNavigate(transferLink);
         return this;
     }
 
     public NavigationPage goToLoan() {
-        click(loanLink);
+        clickAndNavigate(loanLink);
         return this;
     }
 
     public NavigationPage goToContact() {
-        click(contactLink);
+        clickAndNavigate(contactLink);
         return this;
     }
 
     public NavigationPage clickLogo() {
         waitForClickable(logo);
-        click(logo);
+        clickAndNavigate(logo);
         return this;
     }
 
     public NavigationPage clickNavLink(String linkText) {
         By navLink = By.xpath("//a[contains(text(),'" + linkText + "')]");
-        safeSleep(1000); // Stabilize DOM
+        waitForDomStable();
         waitForClickable(navLink);
-        click(navLink);
+        clickAndNavigate(navLink);
         return this;
     }
 }
@@ -1,10 +1,16 @@
 package com.fintech.pages;
 
+import com.fintech.utils.DeadlineWait;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -29,6 +35,11 @@ public class TransactionHistoryPage extends BasePage {
         PageFactory.initElements(driver, this);
     }
 
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
+
     @Override
     public boolean isLoaded() {
         return isTransactionHistoryLoaded();
@@ -60,13 +71,8 @@ public class TransactionHistoryPage extends BasePage {
     public boolean isTransactionHistoryLoaded() {
         try {
             wait.until(ExpectedConditions.presenceOfElementLocated(By.id("transactionTable")));
-            int rowCount = driver.findElements(By.cssSelector("#transactionBody tr")).size();
-            
-            if (rowCount == 0) {
-                safeSleep(2000);
-                rowCount = driver.findElements(By.cssSelector("#transactionBody tr")).size();
-            }
-            
+            int rowCount = getTransactions().size();
+
             System.out.println("🔍 Transaction row count: " + rowCount);
             return rowCount > 0;
         } catch (Exception e) {
@@ -76,63 +82,121 @@ public class TransactionHistoryPage extends BasePage {
         }
     }
 
-    public List<String> getAllRowsText() {
-        List<WebElement> rows = transactionTable.findElements(By.tagName("tr"));
-        if (rows.isEmpty()) {
-            safeSleep(2000);
-            rows = transactionTable.findElements(By.tagName("tr"));
-            if (rows.isEmpty()) {
+    // 🔹 One row of #transactionTable: Date | Transaction | Debit (-) | Credit (+)
+    public record Transaction(LocalDate date, String description, BigDecimal debit, BigDecimal credit) {
+
+        public String getType() {
+            return debit != null ? "Debit" : credit != null ? "Credit" : "";
+        }
+
+        public BigDecimal getAmount() {
+            return debit != null ? debit : credit;
+        }
+
+        public String getDateText() {
+            return date != null ? date.format(DATE_FORMAT) : "";
+        }
+
+        public String getAmountText() {
+            BigDecimal amount = getAmount();
+            return amount != null ? "$" + amount.setScale(2, RoundingMode.HALF_UP).toPlainString() : "";
+        }
+
+        public String getRowText() {
+            return String.join(" ", getDateText(), description, getAmountText()).trim();
+        }
+    }
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+
+    // 🔹 Whole table in a single executeScript round trip instead of findElements per row/cell
+    private static final String READ_TABLE_SCRIPT =
+        "var rows = document.querySelectorAll(\"table[id*='transaction'] tbody tr, .transactionsTable tr\");" +
+        "return Array.prototype.map.call(rows, function (row) {" +
+        "  return Array.prototype.map.call(row.querySelectorAll('td'), function (td) {" +
+        "    return (td.innerText || td.textContent || '').trim();" +
+        "  });" +
+        "});";
+
+    public List<Transaction> getTransactions() {
+        waitForNetworkIdle(); // rows are filled by AJAX after load
+        List<Transaction> transactions = readTable();
+        if (transactions.isEmpty()) {
+            try {
+                transactions = new DeadlineWait(driver, Duration.ofSeconds(2))
+                    .until(d -> {
+                        List<Transaction> rows = readTable();
+                        return rows.isEmpty() ? null : rows;
+                    });
+            } catch (TimeoutException e) {
                 captureScreenshot("TransactionRowsMissing");
                 return Collections.emptyList();
             }
         }
-        return rows.stream().map(WebElement::getText).collect(Collectors.toList());
+        return transactions;
     }
 
-    public List<String> debugRawTransactionRows() {
-        List<WebElement> rows = transactionTable.findElements(By.tagName("tr"));
-        List<String> texts = new ArrayList<>();
-        for (WebElement row : rows) {
-            String text = row.getText();
-            System.out.println("→ Row text: " + text);
-            texts.add(text);
+    @SuppressWarnings("unchecked")
+    private List<Transaction> readTable() {
+        Object result = ((JavascriptExecutor) driver).executeScript(READ_TABLE_SCRIPT);
+        if (!(result instanceof List<?> rows)) return Collections.emptyList();
+
+        List<Transaction> transactions = new ArrayList<>();
+        for (Object row : rows) {
+            List<String> cells = (List<String>) row;
+            if (cells.isEmpty()) continue;
+            transactions.add(new Transaction(
+                parseDate(cell(cells, 0)),
+                cell(cells, 1),
+                parseMoney(cell(cells, 2)),
+                parseMoney(cell(cells, 3))
+            ));
         }
-        return texts;
+        return transactions;
     }
 
-    public List<String> getDates() {
-        return extractColumnText(1);
+    private static String cell(List<String> cells, int index) {
+        return index < cells.size() && cells.get(index) != null ? cells.get(index) : "";
     }
 
-    public List<String> getAmounts() {
-        return extractColumnText(2);
+    private static LocalDate parseDate(String text) {
+        try {
+            return LocalDate.parse(text, DATE_FORMAT);
+        } catch (Exception e) {
+            return null;
+        }
     }
 
-    public List<String> getTypes() {
-        return extractColumnText(3);
+    private static BigDecimal parseMoney(String text) {
+        String digits = text.replaceAll("[^\\d.-]", "");
+        if (digits.isEmpty() || digits.equals("-") || digits.equals(".")) return null;
+        try {
+            return new BigDecimal(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
-    private List<String> extractColumnText(int columnIndex) {
-        List<WebElement> rows = transactionTable.findElements(By.tagName("tr"));
-        if (rows.isEmpty()) {
-            safeSleep(2000);
-            rows = transactionTable.findElements(By.tagName("tr"));
-            if (rows.isEmpty()) {
-                captureScreenshot("TransactionRowsMissing");
-                return Collections.emptyList();
-            }
-        }
-        return rows.stream().map(row -> safeGet(row, columnIndex)).collect(Collectors.toList());
+    public List<String> getAllRowsText() {
+        return getTransactions().stream().map(Transaction::getRowText).collect(Collectors.toList());
     }
 
-    private String safeGet(WebElement row, int columnIndex) {
-        try {
-            List<WebElement> cells = row.findElements(By.tagName("td"));
-            if (cells.size() >= columnIndex) {
-                return cells.get(columnIndex - 1).getText().trim();
-            }
-        } catch (Exception ignored) {}
-        return "";
+    public List<String> debugRawTransactionRows() {
+        List<String> texts = getAllRowsText();
+        texts.forEach(text -> System.out.println("→ Row text: " + text));
+        return texts;
+    }
+
+    public List<String> getDates() {
+        return getTransactions().stream().map(Transaction::getDateText).collect(Collectors.toList());
+    }
+
+    public List<String> getAmounts() {
+        return getTransactions().stream().map(Transaction::getAmountText).collect(Collectors.toList());
+    }
+
+    public List<String> getTypes() {
+        return getTransactions().stream().map(Transaction::getType).collect(Collectors.toList());
     }
 
     public void logTableHeaders() {
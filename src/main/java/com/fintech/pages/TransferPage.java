@@ -1,5 +1,6 @@
 package com.fintech.pages;
 
+import com.fintech.utils.ConfigReader;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.openqa.selenium.*;
@@ -27,11 +28,20 @@ public class TransferPage extends BasePage {
     @FindBy(css = "#rightPanel .error")
     private WebElement errorMsg;
 
+    // 🔹 Transfer outcomes: #showResult "Transfer Complete!" or the #showError / form error
+    private static final By TRANSFER_COMPLETE = By.xpath("//*[@id='rightPanel']//h1[contains(.,'Transfer Complete')]");
+    private static final By TRANSFER_ERROR = By.cssSelector("#rightPanel .error");
+
     public TransferPage(WebDriver driver) {
         super(driver);
         PageFactory.initElements(driver, this);
     }
 
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
+
     @Override
     public boolean isLoaded() {
         return isTransferFormLoaded();
@@ -42,7 +52,7 @@ public class TransferPage extends BasePage {
     }
 
     public TransferPage open() {
-        navigateTo("https://parabank.parasoft.com/parabank/transfer.htm");
+        navigateTo(ConfigReader.pageUrl("transfer.htm"));
 
         for (int i = 0; i < 3; i++) {
             if (isDisplayed(toAccount)) return this;
@@ -123,7 +133,7 @@ public class TransferPage extends BasePage {
     }
 
     public TransferPage transferFunds(String from, String to, double amount) {
-        click(By.linkText("Transfer Funds"));
+        clickAndNavigate(By.linkText("Transfer Funds"));
         waitForVisibility(fromAccount);
 
         selectOptionStartingWith(fromAccount, from);
@@ -145,21 +155,18 @@ public class TransferPage extends BasePage {
     }
 
     public boolean isTransferConfirmed() {
-        try {
-            WebElement confirmationElement = wait.until(ExpectedConditions.visibilityOf(confirmation));
-            String text = confirmationElement.getText().trim();
-            System.out.println("✅ Transfer confirmation text: " + text);
-
-            boolean hasSuccessMsg = driver.findElements(By.cssSelector(".success, .confirmation")).stream()
-                .anyMatch(WebElement::isDisplayed);
-            System.out.println("✅ Success message visible: " + hasSuccessMsg);
-
-            return confirmationElement.isDisplayed() && text.toLowerCase().contains("transfer complete");
-        } catch (Exception e) {
-            captureScreenshot("TransferConfirmationMissing");
-            System.out.println("❌ Transfer confirmation not found: " + e.getMessage());
+        int outcome = waitForAny(TRANSFER_COMPLETE, TRANSFER_ERROR);
+        if (outcome == 0) {
+            System.out.println("✅ Transfer confirmation text: " + getTextNow(TRANSFER_COMPLETE));
+            return true;
+        }
+        if (outcome == 1) {
+            System.out.println("❌ Transfer rejected: " + getTextNow(TRANSFER_ERROR));
             return false;
         }
+        captureScreenshot("TransferConfirmationMissing");
+        System.out.println("❌ Transfer confirmation not found after " + getWaitTime() + " s");
+        return false;
     }
     public String getConfirmationText() {
         try {
@@ -0,0 +1,117 @@
+package com.fintech.utils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+// 🔹 Content-addressed failure artifacts: each distinct screenshot/page source is stored once, compressed, under its hash
+public class ArtifactStore {
+
+    private static final Path DIR = Paths.get(ConfigReader.get("artifacts.dir", "target/artifacts"));
+    private static final Path INDEX = DIR.resolve("index.tsv");
+    private static final boolean JPEG = "jpg".equalsIgnoreCase(ConfigReader.get("artifacts.screenshotFormat", "jpg"));
+    private static final float JPEG_QUALITY = Float.parseFloat(ConfigReader.get("artifacts.jpegQuality", "0.7"));
+
+    private static final LongAdder stored = new LongAdder();
+    private static final LongAdder deduplicated = new LongAdder();
+
+    // 🔹 Hash the raw PNG first, so a repeat of the same error page skips the re-encode entirely
+    public static Path storeScreenshot(String name, byte[] png) throws IOException {
+        String hash = sha256(png);
+        Path file = DIR.resolve(hash + (JPEG ? ".jpg" : ".png"));
+        if (!Files.exists(file)) {
+            write(file, JPEG ? toJpeg(png) : png);
+        } else {
+            deduplicated.increment();
+        }
+        index(name, file);
+        return file;
+    }
+
+    public static Path storePageSource(String name, String html) throws IOException {
+        byte[] raw = html.getBytes(StandardCharsets.UTF_8);
+        Path file = DIR.resolve(sha256(raw) + ".html.gz");
+        if (!Files.exists(file)) {
+            ByteArrayOutputStream gz = new ByteArrayOutputStream(raw.length / 4 + 64);
+            try (OutputStream out = new GZIPOutputStream(gz)) {
+                out.write(raw);
+            }
+            write(file, gz.toByteArray());
+        } else {
+            deduplicated.increment();
+        }
+        index(name, file);
+        return file;
+    }
+
+    public static String summary() {
+        return stored.sum() + " artifacts stored, " + deduplicated.sum() + " duplicates skipped → " + DIR;
+    }
+
+    private static void write(Path file, byte[] bytes) throws IOException {
+        Files.createDirectories(DIR);
+        try {
+            Files.write(file, bytes, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            stored.increment();
+        } catch (FileAlreadyExistsException e) {
+            deduplicated.increment(); // another thread stored the same content first
+        }
+    }
+
+    private static byte[] toJpeg(byte[] png) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) return png;
+
+        // JPEG has no alpha channel — flatten onto RGB first
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        rgb.createGraphics().drawImage(source, 0, 0, java.awt.Color.WHITE, null);
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam params = writer.getDefaultWriteParam();
+        params.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        params.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(png.length / 4 + 64);
+        try (ImageOutputStream image = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(image);
+            writer.write(null, new IIOImage(rgb, null, null), params);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // 🔹 Human-readable trail: when, which capture name, which stored file
+    private static synchronized void index(String name, Path file) throws IOException {
+        Files.createDirectories(DIR);
+        Files.writeString(INDEX, LocalDateTime.now() + "\t" + name + "\t" + file.getFileName() + System.lineSeparator(),
+            StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.fintech.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 🔹 WebDriver round-trip accounting: every call a test makes, by command (with latency) and by the page method issuing it
+public class CommandStats implements WebDriverListener {
+
+    // 🔹 One test's tally; only ever touched by the test's own thread
+    public static final class TestCommands {
+        private final String testName;
+        private final Map<String, long[]> byCommand = new LinkedHashMap<>(); // {calls, nanos}
+        private final Map<String, long[]> bySite = new LinkedHashMap<>();
+        private long total;
+        private long nanos;
+
+        private TestCommands(String testName) {
+            this.testName = testName;
+        }
+
+        private void add(String command, String site, long elapsed) {
+            total++;
+            nanos += elapsed;
+            long[] c = byCommand.computeIfAbsent(command, k -> new long[2]);
+            c[0]++;
+            c[1] += elapsed;
+            long[] s = bySite.computeIfAbsent(site, k -> new long[2]);
+            s[0]++;
+            s[1] += elapsed;
+        }
+
+        public long total() {
+            return total;
+        }
+
+        public String table() {
+            StringBuilder out = new StringBuilder(String.format("WebDriver commands for %s: %d in %d ms%n",
+                testName, total, nanos / 1_000_000));
+            out.append(String.format("  %-40s %6s %9s %8s%n", "command", "calls", "total ms", "avg ms"));
+            appendRows(out, byCommand);
+            out.append(String.format("  %-40s %6s %9s %8s%n", "issued by", "calls", "total ms", "avg ms"));
+            appendRows(out, bySite);
+            return out.toString();
+        }
+
+        private static void appendRows(StringBuilder out, Map<String, long[]> rows) {
+            rows.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[0]).reversed())
+                .forEach(e -> out.append(String.format("  %-40s %6d %9.1f %8.1f%n", e.getKey(), e.getValue()[0],
+                    e.getValue()[1] / 1e6, e.getValue()[1] / 1e6 / e.getValue()[0])));
+        }
+    }
+
+    private static final CommandStats listener = new CommandStats();
+    private static final ThreadLocal<TestCommands> current = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<Long>> started = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final Map<String, LongAdder> suiteBySite = new ConcurrentHashMap<>();
+    private static final StackWalker walker = StackWalker.getInstance();
+
+    // Accessors that return a local helper object without a round trip
+    private static final Set<String> LOCAL_CALLS = Set.of(
+        "manage", "navigate", "switchTo", "timeouts", "window", "getWrappedDriver", "getWrappedElement");
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("commandStats.enabled", "true"));
+    }
+
+    // 🔹 Tests get the decorated driver; the pool and quit() keep working on the raw one
+    public static WebDriver decorate(WebDriver raw) {
+        return isEnabled() ? new EventFiringDecorator<>(listener).decorate(raw) : raw;
+    }
+
+    public static void begin(String testName) {
+        current.set(new TestCommands(testName));
+        started.get().clear();
+    }
+
+    // 🔹 The running test's tally without closing it; null outside a test
+    public static TestCommands current() {
+        return current.get();
+    }
+
+    public static TestCommands end() {
+        TestCommands commands = current.get();
+        current.remove();
+        started.remove();
+        return commands;
+    }
+
+    // 🔹 commandBudget.<group> for the first group that has one, else commandBudget; 0 means no budget
+    public static long budgetFor(String... groups) {
+        for (String group : groups) {
+            String budget = ConfigReader.get("commandBudget." + group);
+            if (budget != null && !budget.isBlank()) return Long.parseLong(budget.trim());
+        }
+        return Long.parseLong(ConfigReader.get("commandBudget", "0"));
+    }
+
+    private static boolean counted(Method method) {
+        return current.get() != null && !LOCAL_CALLS.contains(method.getName());
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!counted(method)) return;
+        Tracer.syncPageSpans();
+        started.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(method);
+    }
+
+    private static void record(Method method) {
+        if (!counted(method)) return;
+        Long start = started.get().poll();
+        if (start == null) return;
+        long end = System.nanoTime();
+        String site = callerSite();
+        String command = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        current.get().add(command, site, end - start);
+        Tracer.complete(command, "webdriver", start, end);
+        suiteBySite.computeIfAbsent(site, s -> new LongAdder()).increment();
+    }
+
+    // 🔹 Innermost page-object (or test) method, skipping BasePage helpers and utils, e.g. AccountPage.getAccountNames
+    private static String callerSite() {
+        return walker.walk(frames -> frames
+            .filter(f -> f.getClassName().startsWith("com.fintech.")
+                && !f.getClassName().startsWith("com.fintech.utils.")
+                && !f.getClassName().equals("com.fintech.pages.BasePage"))
+            .findFirst()
+            .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "."
+                + f.getMethodName().replaceAll("^lambda\\$(.+)\\$\\d+$", "$1"))
+            .orElse("(harness)"));
+    }
+
+    public static void writeReport(Path file) {
+        StringBuilder report = new StringBuilder("WebDriver command report\n========================\n\n");
+        long total = suiteBySite.values().stream().mapToLong(LongAdder::sum).sum();
+        report.append("Total commands in tests: ").append(total).append("\n\nBy issuing method:\n");
+        suiteBySite.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+            .forEach(e -> report.append(String.format("  %8d  %s%n", e.getValue().sum(), e.getKey())));
+
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, report.toString(), StandardCharsets.UTF_8);
+            System.out.println("📡 Command report → " + file + " (" + total + " commands)");
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write command report: " + e.getMessage());
+        }
+    }
+}
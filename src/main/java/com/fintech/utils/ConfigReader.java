@@ -1,10 +1,13 @@
 package com.fintech.utils;
 
 import java.io.FileInputStream;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ConfigReader {
     private static Properties props = new Properties();
+    private static final Map<String, String> overrides = new ConcurrentHashMap<>();
 
     static {
         try {
@@ -15,11 +18,28 @@ public class ConfigReader {
         }
     }
 
+    // 🔹 Runtime overrides win over -Dkey=value, which wins over config.properties
     public static String get(String key) {
-        return props.getProperty(key);
+        String override = overrides.get(key);
+        if (override != null) return override;
+        return System.getProperty(key, props.getProperty(key));
     }
     public static String get(String key, String defaultValue) {
-        String value = props.getProperty(key);
+        String value = get(key);
         return (value != null && !value.trim().isEmpty()) ? value : defaultValue;
     }
+
+    public static void set(String key, String value) {
+        overrides.put(key, value);
+    }
+
+    // 🔹 Application root derived from baseUrl, e.g. https://parabank.parasoft.com/parabank/
+    public static String baseUrl() {
+        String url = get("baseUrl");
+        return url.substring(0, url.lastIndexOf('/') + 1);
+    }
+
+    public static String pageUrl(String page) {
+        return baseUrl() + page;
+    }
 }
@@ -0,0 +1,94 @@
+package com.fintech.utils;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 🔹 WebDriverWait whose timeout is re-capped by the thread's TestDeadline on every until()
+public class DeadlineWait extends WebDriverWait {
+
+    private final Duration requested;
+    private Function<WebDriver, String> abortWhen;
+    private String description;
+
+    public DeadlineWait(WebDriver driver, Duration timeout) {
+        this(driver, timeout, Duration.ofMillis(500));
+    }
+
+    public DeadlineWait(WebDriver driver, Duration timeout, Duration pollInterval) {
+        super(driver, timeout, pollInterval);
+        this.requested = timeout;
+    }
+
+    // 🔹 Checked after every unsatisfied poll; a non-null description aborts the wait with ErrorPageException
+    public DeadlineWait abortWhen(Function<WebDriver, String> check) {
+        this.abortWhen = check;
+        return this;
+    }
+
+    // 🔹 Label for the trace span and JFR event when the condition is a plain lambda
+    public DeadlineWait describedAs(String description) {
+        this.description = description;
+        return this;
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> condition) {
+        Function<? super WebDriver, V> isTrue = abortWhen == null ? condition : guarded(condition);
+        TestDeadline deadline = TestDeadline.current();
+        String described = description != null ? description : describe(condition);
+        Duration effective = deadline == null ? requested : TestDeadline.clamp(requested);
+        long started = System.nanoTime();
+        String outcome = "met";
+        try (Tracer.Span span = Tracer.span("wait", "wait", described);
+             FlightEvents.PageWait event = FlightEvents.pageWait(described, effective.toMillis())) {
+            if (deadline != null) withTimeout(effective);
+            try {
+                return super.until(isTrue);
+            } catch (TimeoutException e) {
+                if (deadline != null && effective.compareTo(requested) < 0) {
+                    deadline.markExhausted();
+                    outcome = "deadline";
+                    throw new TimeoutException("⏱️ Test deadline exhausted — " + deadline.describe(), e);
+                }
+                outcome = "timeout";
+                throw e;
+            } catch (RuntimeException e) {
+                outcome = e instanceof ErrorPageException ? "error page" : e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                event.outcome = outcome;
+                SuiteMetrics.observeNanos("parabank_wait_seconds", System.nanoTime() - started, "outcome", outcome);
+            }
+        }
+    }
+
+    // ExpectedConditions describe themselves; plain lambdas don't
+    private static String describe(Object condition) {
+        String text = String.valueOf(condition);
+        return text.contains("$$Lambda") ? null : text;
+    }
+
+    private <V> Function<WebDriver, V> guarded(Function<? super WebDriver, V> condition) {
+        return d -> {
+            V value = null;
+            RuntimeException notYet = null;
+            try {
+                value = condition.apply(d);
+                if (value != null && !Boolean.FALSE.equals(value)) return value;
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                notYet = e;
+            }
+
+            String errorPage = abortWhen.apply(d);
+            if (errorPage != null) throw new ErrorPageException(errorPage);
+            if (notYet != null) throw notYet;
+            return value;
+        };
+    }
+}
@@ -8,44 +8,174 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
 public class DriverFactory {
-    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();    // what tests see (command-counting decorator)
+    private static final ThreadLocal<WebDriver> rawDriver = new ThreadLocal<>(); // the real session, for quit/sessionId
+    private static final ThreadLocal<DriverPool.PooledDriver> pooledDriver = new ThreadLocal<>();
+    private static final Map<String, DriverPool> pools = new ConcurrentHashMap<>();
+    private static final LongAdder activeSessions = new LongAdder();
+
+    static {
+        SuiteMetrics.gauge("parabank_active_sessions", "Browser sessions currently held by test threads", activeSessions::sum);
+    }
 
     public static WebDriver getDriver(String browser) {
         if (driver.get() == null) {
-            boolean headless = Boolean.parseBoolean(ConfigReader.get("headless"));
-
-            if (browser.equalsIgnoreCase("chrome")) {
-                ChromeOptions options = new ChromeOptions();
-                if (headless) options.addArguments("--headless=new");
-                driver.set(new ChromeDriver(options));
-            } else if (browser.equalsIgnoreCase("edge")) {
-                EdgeOptions options = new EdgeOptions();
-                if (headless) options.addArguments("--headless=new");
-                driver.set(new EdgeDriver(options));
+            if (isPoolEnabled()) {
+                DriverPool.PooledDriver pooled = getPool(browser).checkout();
+                pooledDriver.set(pooled);
+                rawDriver.set(pooled.getDriver());
             } else {
-                throw new RuntimeException("Unsupported browser: " + browser);
+                rawDriver.set(createDriver(browser));
             }
+            // Subscribe before the test's first request so waitForNetworkIdle sees everything already in flight
+            NetworkIdleTracker.forDriver(rawDriver.get());
+            driver.set(CommandStats.decorate(rawDriver.get()));
+            activeSessions.increment();
         }
         return driver.get();
     }
 
+    static WebDriver createDriver(String browser) {
+        try (FlightEvents.DriverCreate event = FlightEvents.driverCreate(browser);
+             Tracer.Span span = Tracer.span("createDriver", "driver", browser)) {
+            long start = System.nanoTime();
+            WebDriver created = launch(browser);
+            // Set once per session; async waits (DOM-stable, navigation timing) cap themselves below this
+            created.manage().timeouts().scriptTimeout(Duration.ofSeconds(Long.parseLong(ConfigReader.get("scriptTimeout.seconds", "30"))));
+            SuiteMetrics.observeNanos("parabank_driver_startup_seconds", System.nanoTime() - start, "browser", browser.toLowerCase());
+            event.sessionId = String.valueOf(((RemoteWebDriver) created).getSessionId());
+            event.success = true;
+            return created;
+        }
+    }
+
+    private static WebDriver launch(String browser) {
+        boolean headless = Boolean.parseBoolean(ConfigReader.get("headless"));
+        boolean bidi = Boolean.parseBoolean(ConfigReader.get("networkIdle.bidi", "true"));
+
+        if (browser.equalsIgnoreCase("chrome")) {
+            ChromeOptions options = new ChromeOptions();
+            if (headless) options.addArguments("--headless=new");
+            if (bidi) options.setCapability("webSocketUrl", true);
+            return new ChromeDriver(options);
+        } else if (browser.equalsIgnoreCase("edge")) {
+            EdgeOptions options = new EdgeOptions();
+            if (headless) options.addArguments("--headless=new");
+            if (bidi) options.setCapability("webSocketUrl", true);
+            return new EdgeDriver(options);
+        } else {
+            throw new RuntimeException("Unsupported browser: " + browser);
+        }
+    }
+
+    // 🔹 Pooled mode: hand the session back for reuse instead of quitting it
+    public static void releaseDriver() {
+        DriverPool.PooledDriver pooled = pooledDriver.get();
+        if (pooled == null) {
+            quitDriver();
+            return;
+        }
+        try {
+            getPool(pooled.getBrowser()).release(pooled);
+        } finally {
+            forgetThreadDriver();
+        }
+    }
+
     public static void quitDriver() {
-        if (driver.get() != null) {
+        DriverPool.PooledDriver pooled = pooledDriver.get();
+        if (pooled != null) {
+            try {
+                getPool(pooled.getBrowser()).discard(pooled);
+            } finally {
+                forgetThreadDriver();
+            }
+            return;
+        }
+
+        WebDriver raw = rawDriver.get();
+        if (raw != null) {
             try {
-                if (((RemoteWebDriver) driver.get()).getSessionId() != null) {
-                    System.out.println("✅ driver.quit() called for: " + driver.get().getClass().getSimpleName());
-                    driver.get().quit();
+                if (((RemoteWebDriver) raw).getSessionId() != null) {
+                    System.out.println("✅ driver.quit() called for: " + raw.getClass().getSimpleName());
+                    NetworkIdleTracker.release(raw);
+                    try (FlightEvents.DriverQuit event = FlightEvents.driverQuit(raw, "quit")) {
+                        raw.quit();
+                    }
                 } else {
                     System.out.println("⚠️ Session already null — skipping quit");
                 }
             } catch (Exception e) {
                 System.out.println("❌ Error during driver quit: " + e.getMessage());
             } finally {
-                driver.remove(); // ✅ This is the correct place
+                forgetThreadDriver(); // ✅ This is the correct place
                 System.out.println("🧹 ThreadLocal driver reference removed");
             }
         }
     }
-}
 
+    private static void forgetThreadDriver() {
+        if (driver.get() != null) activeSessions.decrement();
+        pooledDriver.remove();
+        rawDriver.remove();
+        driver.remove();
+    }
+
+    // 🔹 Boot the pooled sessions concurrently so no worker pays a cold launch
+    public static void warmUp(Collection<String> browsers, int sessionsPerBrowser) {
+        if (!isPoolEnabled() || sessionsPerBrowser <= 0 || browsers.isEmpty()) return;
+
+        long start = System.nanoTime();
+        List<Future<Long>> launches = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String browser : browsers) {
+                DriverPool pool = getPool(browser);
+                int sessions = pool.warmUpCapacity(sessionsPerBrowser);
+                for (int i = 0; i < sessions; i++) {
+                    launches.add(executor.submit(pool::warmUp));
+                }
+            }
+        }
+
+        int warmed = 0;
+        for (Future<Long> launch : launches) {
+            try {
+                if (launch.get() >= 0) warmed++;
+            } catch (Exception e) {
+                System.out.println("⚠️ Warm-up launch failed: " + e.getMessage());
+            }
+        }
+        System.out.println("🔥 Warm-up complete → " + warmed + "/" + launches.size() + " sessions in "
+            + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    public static void shutdownPools() {
+        pools.values().forEach(DriverPool::shutdown);
+        pools.clear();
+    }
+
+    public static boolean isPoolEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("driverPool", "false"));
+    }
+
+    static DriverPool getPool(String browser) {
+        return pools.computeIfAbsent(browser.toLowerCase(), b -> new DriverPool(
+            b,
+            Integer.parseInt(ConfigReader.get("driverPool.maxSize", "4")),
+            Integer.parseInt(ConfigReader.get("driverPool.maxUses", "25")),
+            Duration.ofSeconds(Long.parseLong(ConfigReader.get("driverPool.maxAgeSeconds", "600")))
+        ));
+    }
+}
@@ -0,0 +1,157 @@
+package com.fintech.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+
+public class DriverPool {
+
+    private final String browser;
+    private final int maxSize;
+    private final int maxUses;
+    private final Duration maxAge;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+
+    public DriverPool(String browser, int maxSize, int maxUses, Duration maxAge) {
+        this.browser = browser;
+        this.maxSize = maxSize;
+        this.maxUses = maxUses;
+        this.maxAge = maxAge;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    // 🔹 Checkout: reuse the most recently returned live session, otherwise boot a new one
+    public PooledDriver checkout() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a " + browser + " session", e);
+        }
+
+        try {
+            PooledDriver pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (!isExpired(pooled)) {
+                    System.out.println("♻️ Reusing " + browser + " session (use " + (pooled.uses + 1) + ")");
+                    return pooled;
+                }
+                destroy(pooled, "evicted");
+            }
+            return new PooledDriver(browser, DriverFactory.createDriver(browser));
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // 🔹 Return: reset the session and park it, or evict when it is worn out or dirty
+    public void release(PooledDriver pooled) {
+        try {
+            pooled.uses++;
+            if (isExpired(pooled)) {
+                destroy(pooled, "evicted");
+            } else if (reset(pooled.driver)) {
+                idle.offerFirst(pooled);
+            } else {
+                destroy(pooled, "reset failed");
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void discard(PooledDriver pooled) {
+        try {
+            destroy(pooled, "discarded");
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 🔹 Warm-up: boot a session ahead of time and park it idle for the first checkout. Holds a permit while
+    //    booting so idle + checked-out + booting never exceeds maxSize; -1 when the pool is already full.
+    public long warmUp() {
+        if (!permits.tryAcquire()) return -1;
+        try {
+            if (idle.size() + maxSize - permits.availablePermits() > maxSize) return -1;
+            long start = System.nanoTime();
+            WebDriver driver = DriverFactory.createDriver(browser);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            idle.offerLast(new PooledDriver(browser, driver));
+            System.out.println("🔥 Warmed " + browser + " session in " + elapsedMillis + " ms");
+            return elapsedMillis;
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 🔹 Room left once idle and checked-out sessions are counted
+    public int warmUpCapacity(int requested) {
+        return Math.max(0, Math.min(requested, permits.availablePermits() - idle.size()));
+    }
+
+    public void shutdown() {
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            destroy(pooled, "pool shutdown");
+        }
+    }
+
+    private boolean isExpired(PooledDriver pooled) {
+        return pooled.uses >= maxUses
+            || Duration.between(pooled.createdAt, Instant.now()).compareTo(maxAge) > 0;
+    }
+
+    private boolean reset(WebDriver driver) {
+        try {
+            if (driver.getWindowHandles().size() > 1) return false;
+            ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.out.println("⚠️ Session reset failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(PooledDriver pooled, String reason) {
+        try {
+            System.out.println("🧹 Quitting pooled " + browser + " session (" + reason + ", uses: " + pooled.uses + ")");
+            NetworkIdleTracker.release(pooled.driver);
+            try (FlightEvents.DriverQuit event = FlightEvents.driverQuit(pooled.driver, reason)) {
+                pooled.driver.quit();
+            }
+        } catch (Exception e) {
+            System.out.println("❌ Error during pooled driver quit: " + e.getMessage());
+        }
+    }
+
+    public static class PooledDriver {
+        private final String browser;
+        private final WebDriver driver;
+        private final Instant createdAt = Instant.now();
+        private int uses = 0;
+
+        PooledDriver(String browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+        }
+
+        public String getBrowser() {
+            return browser;
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.fintech.utils;
+
+// 🔹 Thrown from a wait poll when the browser is on a known ParaBank error page — no point waiting out the timeout
+public class ErrorPageException extends RuntimeException {
+
+    public ErrorPageException(String diagnostics) {
+        super("❌ " + diagnostics);
+    }
+}
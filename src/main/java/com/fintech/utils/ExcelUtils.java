@@ -1,51 +0,0 @@
-package com.fintech.utils;
-
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-
-import java.io.FileInputStream;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
-public class ExcelUtils {
-
-    public static Object[][] readExcelData(String filePath, String sheetName) {
-        List<Object[]> dataList = new ArrayList<>();
-
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(fis)) {
-
-            Sheet sheet = workbook.getSheet(sheetName);
-            Iterator<Row> rows = sheet.iterator();
-            rows.next(); // skip header
-
-            while (rows.hasNext()) {
-                Row row = rows.next();
-                int cellCount = row.getLastCellNum();
-                Object[] rowData = new Object[cellCount];
-
-                for (int i = 0; i < cellCount; i++) {
-                    Cell cell = row.getCell(i, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-                    rowData[i] = getCellValue(cell);
-                }
-                dataList.add(rowData);
-            }
-
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        return dataList.toArray(new Object[0][]);
-    }
-
-    private static Object getCellValue(Cell cell) {
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue();
-            case NUMERIC -> cell.getNumericCellValue();
-            case BOOLEAN -> cell.getBooleanCellValue();
-            default -> "";
-        };
-    }
-}
-
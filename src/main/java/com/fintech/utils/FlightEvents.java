@@ -0,0 +1,209 @@
+package com.fintech.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+// 🔹 JDK Flight Recorder events for the framework — near-free when no recording is running, so they stay on in CI.
+//    Recorded by the surefire argLine with src/test/resources/jfr/parabank.jfc; open target/parabank.jfr in JMC.
+public class FlightEvents {
+
+    // Each event is opened with begin() by its factory and committed by close(), so call sites use try-with-resources
+    @Name("com.fintech.DriverCreate")
+    @Label("Driver Create")
+    @Category({"ParaBank", "Driver"})
+    @StackTrace(false)
+    public static final class DriverCreate extends Event implements AutoCloseable {
+        @Label("Browser")
+        public String browser;
+
+        @Label("Session Id")
+        public String sessionId;
+
+        @Label("Success")
+        public boolean success;
+
+        @Override
+        public void close() {
+            commit();
+        }
+    }
+
+    @Name("com.fintech.DriverQuit")
+    @Label("Driver Quit")
+    @Category({"ParaBank", "Driver"})
+    @StackTrace(false)
+    public static final class DriverQuit extends Event implements AutoCloseable {
+        @Label("Browser")
+        public String browser;
+
+        @Label("Session Id")
+        public String sessionId;
+
+        @Label("Reason")
+        public String reason;
+
+        @Override
+        public void close() {
+            commit();
+        }
+    }
+
+    @Name("com.fintech.PageWait")
+    @Label("Page Wait")
+    @Category({"ParaBank", "Page"})
+    @Description("One explicit wait: what it waited for and how it ended")
+    @StackTrace(false)
+    public static final class PageWait extends Event implements AutoCloseable {
+        @Label("Locator")
+        public String locator;
+
+        @Label("Condition")
+        public String condition;
+
+        @Label("Outcome")
+        @Description("met, timeout, deadline, error page, or the exception that ended the wait")
+        public String outcome;
+
+        @Label("Timeout")
+        @Timespan(Timespan.MILLISECONDS)
+        public long timeout;
+
+        @Override
+        public void close() {
+            commit();
+        }
+    }
+
+    @Name("com.fintech.PageAction")
+    @Label("Page Action")
+    @Category({"ParaBank", "Page"})
+    @StackTrace(false)
+    public static final class PageAction extends Event implements AutoCloseable {
+        @Label("Page")
+        public String page;
+
+        @Label("Action")
+        public String action;
+
+        @Label("Locator")
+        public String locator;
+
+        @Override
+        public void close() {
+            commit();
+        }
+    }
+
+    @Name("com.fintech.Screenshot")
+    @Label("Screenshot Capture")
+    @Category({"ParaBank", "Artifacts"})
+    @StackTrace(false)
+    public static final class Screenshot extends Event implements AutoCloseable {
+        @Label("Name")
+        public String name;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+
+        @Label("Queued")
+        @Description("false when the writer queue stayed full and the capture was dropped")
+        public boolean queued;
+
+        @Override
+        public void close() {
+            commit();
+        }
+    }
+
+    @Name("com.fintech.DataLoad")
+    @Label("Test Data Load")
+    @Category({"ParaBank", "Data"})
+    @StackTrace(false)
+    public static final class DataLoad extends Event implements AutoCloseable {
+        @Label("Source")
+        public String source;
+
+        @Label("Rows")
+        public int rows;
+
+        @Label("Cache Hit")
+        public boolean cacheHit;
+
+        @Override
+        public void close() {
+            commit();
+        }
+    }
+
+    public static DriverCreate driverCreate(String browser) {
+        DriverCreate event = new DriverCreate();
+        event.browser = browser;
+        event.begin();
+        return event;
+    }
+
+    public static DriverQuit driverQuit(WebDriver driver, String reason) {
+        DriverQuit event = new DriverQuit();
+        if (event.isEnabled() && driver instanceof RemoteWebDriver remote) {
+            event.browser = remote.getCapabilities().getBrowserName();
+            event.sessionId = String.valueOf(remote.getSessionId());
+        }
+        event.reason = reason;
+        event.begin();
+        return event;
+    }
+
+    public static PageWait pageWait(String condition, long timeoutMillis) {
+        PageWait event = new PageWait();
+        if (event.isEnabled()) {
+            event.condition = condition;
+            event.locator = locatorOf(condition);
+            event.timeout = timeoutMillis;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static PageAction pageAction(Object page, String action, Object locator) {
+        PageAction event = new PageAction();
+        if (event.isEnabled()) {
+            event.page = page.getClass().getSimpleName();
+            event.action = action;
+            event.locator = locatorOf(String.valueOf(locator));
+        }
+        event.begin();
+        return event;
+    }
+
+    public static Screenshot screenshot(String name) {
+        Screenshot event = new Screenshot();
+        event.name = name;
+        event.begin();
+        return event;
+    }
+
+    public static DataLoad dataLoad(String source) {
+        DataLoad event = new DataLoad();
+        event.source = source;
+        event.begin();
+        return event;
+    }
+
+    // 🔹 ExpectedConditions and PageFactory proxies embed the By in their description — keep just that part
+    static String locatorOf(String description) {
+        if (description == null) return null;
+        int by = description.indexOf("By.");
+        if (by < 0) return null;
+        String locator = description.substring(by);
+        return locator.endsWith("'") || locator.endsWith("]") ? locator.substring(0, locator.length() - 1) : locator;
+    }
+}
@@ -0,0 +1,90 @@
+package com.fintech.utils;
+
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 🔹 Win counts for fallback locator chains (Page.chain → locator), persisted outside target/ (survives mvn clean) so the next run starts with the winner
+public class LocatorRanking {
+
+    private static final Map<String, Map<String, LongAdder>> wins = new ConcurrentHashMap<>();
+
+    static {
+        load();
+    }
+
+    private static Path file() {
+        return Paths.get(ConfigReader.get("locatorRanking.file", ".cache/locator-ranking.properties"));
+    }
+
+    // 🔹 Most wins first; ties keep the declared order
+    public static List<By> rank(String chain, List<By> candidates) {
+        Map<String, LongAdder> counts = wins.getOrDefault(chain, Map.of());
+        List<By> ranked = new ArrayList<>(candidates);
+        ranked.sort(Comparator.comparingLong((By by) -> {
+            LongAdder count = counts.get(by.toString());
+            return count == null ? 0 : count.sum();
+        }).reversed());
+        return ranked;
+    }
+
+    public static void recordWin(String chain, By winner) {
+        wins.computeIfAbsent(chain, c -> new ConcurrentHashMap<>())
+            .computeIfAbsent(winner.toString(), l -> new LongAdder())
+            .increment();
+    }
+
+    private static void load() {
+        Path file = file();
+        if (!Files.exists(file)) return;
+        Properties stored = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            stored.load(in);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not read locator ranking: " + e.getMessage());
+            return;
+        }
+        // Keys are "<chain>|<By.toString()>"
+        for (String key : stored.stringPropertyNames()) {
+            int split = key.indexOf('|');
+            if (split < 0) continue;
+            try {
+                wins.computeIfAbsent(key.substring(0, split), c -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(key.substring(split + 1), l -> new LongAdder())
+                    .add(Long.parseLong(stored.getProperty(key).trim()));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+    }
+
+    public static synchronized void save() {
+        if (wins.isEmpty()) return;
+        Properties stored = new Properties();
+        wins.forEach((chain, counts) ->
+            counts.forEach((locator, count) -> stored.setProperty(chain + "|" + locator, String.valueOf(count.sum()))));
+
+        Path file = file();
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                stored.store(out, "Fallback locator wins per page chain");
+            }
+            System.out.println("🔀 Locator ranking → " + file + " (" + wins.size() + " chains)");
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write locator ranking: " + e.getMessage());
+        }
+    }
+}
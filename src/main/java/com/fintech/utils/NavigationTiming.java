@@ -0,0 +1,146 @@
+package com.fintech.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 🔹 Navigation Timing per page load, keyed on the page that loaded (overview.htm → "overview") and checked against
+//    navBudget.<page>.<metric>Millis (falling back to navBudget.<metric>Millis) — metrics: ttfb, domContentLoaded, load.
+//    The page object whose action caused the load is kept as the trigger.
+public class NavigationTiming {
+
+    public record Sample(String page, String path, String trigger, String type, long ttfbMillis, long domContentLoadedMillis,
+                         long loadMillis, long transferBytes, int resources, long resourceBytes) {
+
+        public String describe() {
+            return String.format("%s (%s via %s, %s): TTFB %d ms, DOMContentLoaded %d ms, load %d ms, %d KB + %d resources / %d KB",
+                page, path, trigger, type, ttfbMillis, domContentLoadedMillis, loadMillis,
+                transferBytes / 1024, resources, resourceBytes / 1024);
+        }
+    }
+
+    // Same-document calls (timeOrigin unchanged) return at once; a new document is read after its load event has
+    // finished, or after arguments[1] ms with loadEventEnd still 0
+    private static final String TIMING_SCRIPT =
+        "var done = arguments[arguments.length - 1], seen = arguments[0], sent = false;" +
+        "if (performance.timeOrigin === seen) { done([performance.timeOrigin]); return; }" +
+        "function read() {" +
+        "  if (sent) return; sent = true;" +
+        "  var n = performance.getEntriesByType('navigation')[0];" +
+        "  if (!n) { done([performance.timeOrigin]); return; }" +
+        "  var r = performance.getEntriesByType('resource'), bytes = 0;" +
+        "  r.forEach(function (e) { bytes += e.transferSize || 0; });" +
+        "  done([performance.timeOrigin, location.pathname, n.type, n.responseStart, n.domContentLoadedEventEnd," +
+        "    n.loadEventEnd, n.transferSize || 0, r.length, bytes]); }" +
+        "if (document.readyState === 'complete') setTimeout(read, 0);" +
+        "else { window.addEventListener('load', function () { setTimeout(read, 0); }); setTimeout(read, arguments[1]); }";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.get("navTiming.enabled", "true"));
+    private static final long MAX_WAIT_MILLIS = Long.parseLong(ConfigReader.get("navTiming.maxWaitMillis", "5000"));
+    private static final ThreadLocal<Double> lastOrigin = new ThreadLocal<>();
+    private static final ThreadLocal<List<Sample>> current = ThreadLocal.withInitial(ArrayList::new);
+    private static final Queue<Sample> suite = new ConcurrentLinkedQueue<>();
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static void begin() {
+        lastOrigin.remove();
+        current.remove();
+    }
+
+    // 🔹 Closes the thread's list for one test and returns what it navigated
+    public static List<Sample> end() {
+        List<Sample> samples = List.copyOf(current.get());
+        current.remove();
+        lastOrigin.remove();
+        return samples;
+    }
+
+    public static List<Sample> current() {
+        return List.copyOf(current.get());
+    }
+
+    // 🔹 One script call; null when the document hasn't changed since the last capture on this thread
+    public static Sample capture(WebDriver driver, String trigger) {
+        if (!ENABLED) return null;
+        List<?> timing;
+        try {
+            timing = (List<?>) ((JavascriptExecutor) driver).executeAsyncScript(TIMING_SCRIPT, lastOrigin.get(), MAX_WAIT_MILLIS);
+        } catch (WebDriverException | ClassCastException e) {
+            return null; // alert open or document torn down mid-call — the next capture picks the page up
+        }
+        if (timing == null || timing.isEmpty()) return null;
+        lastOrigin.set(((Number) timing.get(0)).doubleValue());
+        if (timing.size() < 9) return null;
+
+        String path = String.valueOf(timing.get(1));
+        Sample sample = new Sample(pageOf(path), path, trigger, String.valueOf(timing.get(2)),
+            millis(timing.get(3)), millis(timing.get(4)), millis(timing.get(5)),
+            millis(timing.get(6)), ((Number) timing.get(7)).intValue(), millis(timing.get(8)));
+        current.get().add(sample);
+        suite.add(sample);
+        return sample;
+    }
+
+    // "/parabank/overview.htm" → "overview"; the context root itself is "index"
+    static String pageOf(String path) {
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        int dot = name.indexOf('.');
+        if (dot >= 0) name = name.substring(0, dot);
+        return name.isEmpty() ? "index" : name;
+    }
+
+    private static long millis(Object value) {
+        return Math.round(((Number) value).doubleValue());
+    }
+
+    // 🔹 0 means no budget
+    public static long budgetFor(String page, String metric) {
+        String budget = ConfigReader.get("navBudget." + page + "." + metric + "Millis");
+        if (budget == null || budget.isBlank()) budget = ConfigReader.get("navBudget." + metric + "Millis", "0");
+        return Long.parseLong(budget.trim());
+    }
+
+    public static List<String> violations(Sample sample) {
+        List<String> over = new ArrayList<>();
+        check(over, sample, "ttfb", sample.ttfbMillis());
+        check(over, sample, "domContentLoaded", sample.domContentLoadedMillis());
+        check(over, sample, "load", sample.loadMillis());
+        return over;
+    }
+
+    private static void check(List<String> over, Sample sample, String metric, long actual) {
+        long budget = budgetFor(sample.page(), metric);
+        if (budget > 0 && actual > budget) {
+            over.add(sample.page() + " (via " + sample.trigger() + "): " + metric + " " + actual + " ms > budget " + budget + " ms");
+        }
+    }
+
+    public static void writeReport(Path file) {
+        if (suite.isEmpty()) return;
+        StringBuilder csv = new StringBuilder("page,path,trigger,type,ttfb_ms,dom_content_loaded_ms,load_ms,transfer_bytes,resources,resource_bytes\n");
+        for (Sample s : suite) {
+            csv.append(String.join(",", s.page(), s.path(), s.trigger(), s.type(), String.valueOf(s.ttfbMillis()),
+                String.valueOf(s.domContentLoadedMillis()), String.valueOf(s.loadMillis()), String.valueOf(s.transferBytes()),
+                String.valueOf(s.resources()), String.valueOf(s.resourceBytes()))).append('\n');
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, csv.toString(), StandardCharsets.UTF_8);
+            System.out.println("🚦 Navigation timing → " + file + " (" + suite.size() + " page loads)");
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write navigation timing: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.fintech.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Network;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// 🔹 Counts in-flight requests of one browser session from BiDi network events (Chrome and Edge alike)
+public class NetworkIdleTracker implements AutoCloseable {
+
+    private static final Map<WebDriver, NetworkIdleTracker> trackers = new ConcurrentHashMap<>();
+
+    private final Network network;
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong lastActivity = new AtomicLong(System.nanoTime());
+
+    private NetworkIdleTracker(WebDriver driver) {
+        network = new Network(driver);
+        network.onBeforeRequestSent(e -> started(e.getRequest().getRequestId()));
+        network.onResponseCompleted(e -> finished(e.getRequest().getRequestId()));
+        network.onFetchError(e -> finished(e.getRequest().getRequestId()));
+    }
+
+    // 🔹 One subscription per session, made by DriverFactory.getDriver on create/checkout and kept for the life of the
+    //    (possibly pooled) driver; later calls just look it up. null without BiDi
+    public static NetworkIdleTracker forDriver(WebDriver driver) {
+        WebDriver raw = unwrap(driver);
+        if (!isBiDiEnabled(raw)) return null;
+        try {
+            return trackers.computeIfAbsent(raw, NetworkIdleTracker::new);
+        } catch (Exception e) {
+            System.out.println("⚠️ BiDi network subscription failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public static void release(WebDriver driver) {
+        NetworkIdleTracker tracker = trackers.remove(unwrap(driver));
+        if (tracker != null) tracker.close();
+    }
+
+    // Page objects hold the command-counting decorator; key trackers by the session underneath it
+    private static WebDriver unwrap(WebDriver driver) {
+        while (driver instanceof WrapsDriver wrapper) {
+            driver = wrapper.getWrappedDriver();
+        }
+        return driver;
+    }
+
+    private static boolean isBiDiEnabled(WebDriver driver) {
+        try {
+            return driver instanceof HasBiDi bidi && bidi.maybeGetBiDi().isPresent();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void started(String requestId) {
+        inFlight.put(requestId, System.nanoTime());
+        lastActivity.set(System.nanoTime());
+    }
+
+    private void finished(String requestId) {
+        inFlight.remove(requestId);
+        lastActivity.set(System.nanoTime());
+    }
+
+    // 🔹 true once nothing has been in flight for `quiet`; requests older than `timeout` count as abandoned
+    public boolean awaitIdle(Duration quiet, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            long now = System.nanoTime();
+            inFlight.values().removeIf(start -> now - start > timeout.toNanos());
+            if (inFlight.isEmpty() && now - lastActivity.get() >= quiet.toNanos()) {
+                return true;
+            }
+            LockSupport.parkNanos(Duration.ofMillis(25).toNanos());
+        }
+        return false;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public void close() {
+        try {
+            network.close();
+        } catch (Exception ignored) {
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.fintech.utils;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+// 🔹 Thin client for ParaBank's /services/bank REST API — arrange/verify without the browser
+public class ParaBankApiClient {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Customer(int id, String firstName, String lastName) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Account(int id, int customerId, String type, BigDecimal balance) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record LoanResponse(boolean approved, String message, Integer accountId) {}
+
+    // 🔹 ParaBank's createAccount newAccountType codes
+    public enum AccountType { CHECKING, SAVINGS, LOAN }
+
+    private static final HttpClient http = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final String servicesUrl;
+
+    public ParaBankApiClient(String servicesUrl) {
+        this.servicesUrl = servicesUrl.endsWith("/") ? servicesUrl : servicesUrl + "/";
+    }
+
+    // 🔹 Follows baseUrl, so it targets the local stand-in whenever the UI does
+    public static ParaBankApiClient fromConfig() {
+        return new ParaBankApiClient(ConfigReader.pageUrl("services/bank/"));
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("setup.api", "true"));
+    }
+
+    public Customer login(String username, String password) {
+        return get("login/" + encode(username) + "/" + encode(password), new TypeReference<>() {});
+    }
+
+    public List<Account> getAccounts(int customerId) {
+        return get("customers/" + customerId + "/accounts", new TypeReference<>() {});
+    }
+
+    public Account getAccount(int accountId) {
+        return get("accounts/" + accountId, new TypeReference<>() {});
+    }
+
+    // 🔹 Same shape as AccountPage.getBalanceSnapshot(): account id → balance
+    public Map<String, BigDecimal> getBalances(int customerId) {
+        Map<String, BigDecimal> balances = new LinkedHashMap<>();
+        for (Account account : getAccounts(customerId)) {
+            balances.put(String.valueOf(account.id()), account.balance());
+        }
+        return Collections.unmodifiableMap(balances);
+    }
+
+    public Account createAccount(int customerId, AccountType type, int fromAccountId) {
+        return post("createAccount", query(
+            "customerId", customerId, "newAccountType", type.ordinal(), "fromAccountId", fromAccountId), new TypeReference<>() {});
+    }
+
+    public String transfer(int fromAccountId, int toAccountId, BigDecimal amount) {
+        return send(HttpRequest.newBuilder(uri("transfer", query(
+            "fromAccountId", fromAccountId, "toAccountId", toAccountId, "amount", amount.toPlainString())))
+            .POST(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    public LoanResponse requestLoan(int customerId, BigDecimal amount, BigDecimal downPayment, int fromAccountId) {
+        return post("requestLoan", query(
+            "customerId", customerId, "amount", amount.toPlainString(),
+            "downPayment", downPayment.toPlainString(), "fromAccountId", fromAccountId), new TypeReference<>() {});
+    }
+
+    private <T> T get(String path, TypeReference<T> type) {
+        return parse(send(HttpRequest.newBuilder(uri(path, "")).GET()), type, path);
+    }
+
+    private <T> T post(String path, String query, TypeReference<T> type) {
+        return parse(send(HttpRequest.newBuilder(uri(path, query)).POST(HttpRequest.BodyPublishers.noBody())), type, path);
+    }
+
+    private String send(HttpRequest.Builder request) {
+        HttpRequest built = request.header("Accept", "application/json").timeout(Duration.ofSeconds(20)).build();
+        try {
+            HttpResponse<String> response = http.send(built, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new RuntimeException("❌ ParaBank API " + built.method() + " " + built.uri().getPath()
+                    + " → " + response.statusCode() + ": " + response.body());
+            }
+            return response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted calling ParaBank API: " + built.uri(), e);
+        } catch (java.io.IOException e) {
+            throw new RuntimeException("❌ ParaBank API unreachable: " + built.uri(), e);
+        }
+    }
+
+    private <T> T parse(String body, TypeReference<T> type, String path) {
+        try {
+            return mapper.readValue(body, type);
+        } catch (Exception e) {
+            throw new RuntimeException("❌ Unexpected ParaBank API response for " + path + ": " + body, e);
+        }
+    }
+
+    private URI uri(String path, String query) {
+        return URI.create(servicesUrl + path + (query.isEmpty() ? "" : "?" + query));
+    }
+
+    private static String query(Object... pairs) {
+        StringJoiner query = new StringJoiner("&");
+        for (int i = 0; i < pairs.length; i += 2) {
+            query.add(pairs[i] + "=" + encode(String.valueOf(pairs[i + 1])));
+        }
+        return query.toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
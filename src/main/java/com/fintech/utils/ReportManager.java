@@ -4,22 +4,130 @@ import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 🔹 The one report: test threads only enqueue events, a single "report-writer" thread owns ExtentReports
 public final class ReportManager {
-  private static final ExtentReports extent = new ExtentReports();
-  private static final ExtentSparkReporter spark = new ExtentSparkReporter("test-output/ExtentReport.html");
+  private static final ConcurrentLinkedQueue<Runnable> events = new ConcurrentLinkedQueue<>();
+  private static volatile ExtentReports extent;
+  private static volatile Thread writer;
+
+  private ReportManager() {}
 
-  static {
-    extent.attachReporter(spark);
+  public static synchronized void start(String reportPath) {
+    if (writer != null) return;
+    ExtentReports reports = new ExtentReports();
+    reports.attachReporter(new ExtentSparkReporter(reportPath));
+    extent = reports;
+    writer = Thread.ofPlatform().name("report-writer").daemon().start(ReportManager::drain);
   }
 
-  private ReportManager() {}
+  private static void drain() {
+    while (true) {
+      Runnable event = events.poll();
+      if (event == null) {
+        LockSupport.park(); // submit() unparks; a permit from an unpark before this call makes it return at once
+        continue;
+      }
+      try {
+        event.run();
+      } catch (RuntimeException e) {
+        System.out.println("⚠️ Report event failed: " + e.getMessage());
+      }
+    }
+  }
+
+  private static void submit(Runnable event) {
+    if (writer == null) start(ConfigReader.get("report.path", "target/ExtentReport.html"));
+    events.offer(event);
+    LockSupport.unpark(writer);
+  }
+
+  // 🔹 Returns at once; the ExtentTest itself is created (and only ever touched) on the writer thread
+  public static TestHandle createTest(String name) {
+    TestHandle handle = new TestHandle(name);
+    submit(() -> handle.test = extent.createTest(name));
+    return handle;
+  }
 
-  public static ExtentTest createTest(String name) {
-    return extent.createTest(name);
+  public static void setSystemInfo(String key, String value) {
+    submit(() -> extent.setSystemInfo(key, value));
   }
 
+  // 🔹 Waits until every event queued before this call has been applied and the HTML written
   public static void flush() {
-    extent.flush();
+    CompletableFuture<Void> flushed = new CompletableFuture<>();
+    submit(() -> {
+      extent.flush();
+      flushed.complete(null);
+    });
+    try {
+      flushed.get(30, TimeUnit.SECONDS);
+    } catch (Exception e) {
+      System.out.println("⚠️ Report flush did not finish: " + e.getMessage());
+    }
   }
-}
 
+  // 🔹 Per-thread handle: same calls as ExtentTest, each one queued in order for the writer thread
+  public static final class TestHandle {
+    private volatile String name;
+    private ExtentTest test; // writer thread only
+
+    private TestHandle(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public TestHandle rename(String newName) {
+      name = newName;
+      submit(() -> test.getModel().setName(newName));
+      return this;
+    }
+
+    public TestHandle assignCategory(String... categories) {
+      submit(() -> test.assignCategory(categories));
+      return this;
+    }
+
+    public TestHandle info(String details) {
+      submit(() -> test.info(details));
+      return this;
+    }
+
+    public TestHandle pass(String details) {
+      submit(() -> test.pass(details));
+      return this;
+    }
+
+    public TestHandle warning(String details) {
+      submit(() -> test.warning(details));
+      return this;
+    }
+
+    public TestHandle skip(String details) {
+      submit(() -> test.skip(details));
+      return this;
+    }
+
+    public TestHandle fail(String details) {
+      submit(() -> test.fail(details));
+      return this;
+    }
+
+    public TestHandle fail(Throwable error) {
+      submit(() -> test.fail(error));
+      return this;
+    }
+
+    public TestHandle addScreenCaptureFromPath(String path) {
+      submit(() -> test.addScreenCaptureFromPath(path));
+      return this;
+    }
+  }
+}
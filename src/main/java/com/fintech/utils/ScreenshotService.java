@@ -0,0 +1,108 @@
+package com.fintech.utils;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// 🔹 All screenshots go through here: the test thread only grabs the PNG bytes, a background writer hashes,
+//    re-encodes and stores them in the ArtifactStore
+public class ScreenshotService {
+
+    private record Job(String name, byte[] png, Consumer<Path> onWritten) {}
+
+    private static final BlockingQueue<Job> queue =
+        new ArrayBlockingQueue<>(Integer.parseInt(ConfigReader.get("screenshots.queueSize", "32")));
+    private static final long offerMillis = Long.parseLong(ConfigReader.get("screenshots.offerTimeoutMillis", "500"));
+    private static final ThreadLocal<Consumer<Path>> reportSink = new ThreadLocal<>();
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static final LongAdder dropped = new LongAdder();
+
+    static {
+        Thread writer = new Thread(ScreenshotService::drain, "screenshot-writer");
+        writer.setDaemon(true);
+        writer.start();
+        SuiteMetrics.gauge("parabank_screenshot_queue_depth", "Screenshots waiting for the background writer", queue::size);
+    }
+
+    // 🔹 Where this thread's screenshots get attached once written (BaseTest binds the current ExtentTest)
+    public static void attachTo(Consumer<Path> sink) {
+        reportSink.set(sink);
+    }
+
+    public static void detach() {
+        reportSink.remove();
+    }
+
+    // 🔹 false when the queue stayed full and the capture was dropped
+    public static boolean capture(WebDriver driver, String name) {
+        try (FlightEvents.Screenshot event = FlightEvents.screenshot(name)) {
+            byte[] png;
+            try (Tracer.Span span = Tracer.span("screenshot", "artifact", name)) {
+                png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            }
+            event.bytes = png.length;
+            event.queued = enqueue(name, png);
+            return event.queued;
+        }
+    }
+
+    private static boolean enqueue(String name, byte[] png) {
+        pending.incrementAndGet();
+        boolean queued;
+        try {
+            queued = queue.offer(new Job(name, png, reportSink.get()), offerMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            pending.decrementAndGet();
+            dropped.increment();
+            SuiteMetrics.increment("parabank_screenshots_dropped_total");
+            System.out.println("⚠️ Screenshot queue full — dropped " + name);
+            return false;
+        }
+        return true;
+    }
+
+    private static void drain() {
+        while (true) {
+            Job job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try (Tracer.Span span = Tracer.span("store screenshot", "artifact", job.name())) {
+                Path written = ArtifactStore.storeScreenshot(job.name(), job.png()).toAbsolutePath();
+                System.out.println("📸 Screenshot saved: " + job.name() + " → " + written);
+                if (job.onWritten() != null) job.onWritten().accept(written);
+            } catch (Exception e) {
+                System.out.println("⚠️ Screenshot write failed for " + job.name() + ": " + e.getMessage());
+            } finally {
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    // 🔹 Suite end: let queued writes land (and attach) before the report is flushed
+    public static void awaitWritten(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+        }
+        if (pending.get() > 0) System.out.println("⚠️ " + pending.get() + " screenshots still pending after " + timeout.toSeconds() + " s");
+        if (dropped.sum() > 0) System.out.println("⚠️ Screenshots dropped on a full queue: " + dropped.sum());
+    }
+}
@@ -0,0 +1,121 @@
+package com.fintech.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+
+import java.net.CookieManager;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+// 🔹 Log in once per worker over HTTP, then hand the JSESSIONID to each fresh/pooled browser session
+public class SessionCookieLogin {
+
+    public record CachedSession(String name, String value, String path, Instant expiresAt) {
+        public boolean isExpired() {
+            return Instant.now().isAfter(expiresAt);
+        }
+    }
+
+    private static final String SESSION_COOKIE = "JSESSIONID";
+    private static final ThreadLocal<Map<String, CachedSession>> sessions = ThreadLocal.withInitial(HashMap::new);
+
+    public static boolean isEnabled() {
+        return "cookie".equalsIgnoreCase(ConfigReader.get("login.mode", "cookie"));
+    }
+
+    // 🔹 true when the driver ends up on the overview page logged in as the user
+    public static boolean login(WebDriver driver, String username, String password) {
+        String key = ConfigReader.baseUrl() + "|" + username;
+        CachedSession session = sessions.get().get(key);
+        boolean fresh = false;
+
+        try {
+            if (session == null || session.isExpired()) {
+                session = authenticate(username, password);
+                fresh = true;
+            }
+            if (session != null && inject(driver, session)) {
+                sessions.get().put(key, session);
+                System.out.println("🍪 Session cookie login for " + username + (fresh ? " (new session)" : " (cached)"));
+                return true;
+            }
+
+            // Cached session was invalidated server-side (logout, restart) — try once more with a new one
+            sessions.get().remove(key);
+            if (!fresh) {
+                session = authenticate(username, password);
+                if (session != null && inject(driver, session)) {
+                    sessions.get().put(key, session);
+                    return true;
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("⚠️ Session cookie login failed: " + e.getMessage());
+        }
+        return false;
+    }
+
+    public static void invalidate() {
+        sessions.remove();
+    }
+
+    private static CachedSession authenticate(String username, String password) throws Exception {
+        CookieManager cookies = new CookieManager();
+        HttpClient http = HttpClient.newBuilder()
+            .cookieHandler(cookies)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+        String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+            + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        http.send(HttpRequest.newBuilder(URI.create(ConfigReader.pageUrl("login.htm")))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .timeout(Duration.ofSeconds(20))
+            .POST(HttpRequest.BodyPublishers.ofString(form))
+            .build(), HttpResponse.BodyHandlers.discarding());
+
+        // Only trust the cookie once the overview actually renders the logged-in menu
+        HttpResponse<String> overview = http.send(HttpRequest.newBuilder(URI.create(ConfigReader.pageUrl("overview.htm")))
+            .timeout(Duration.ofSeconds(20))
+            .GET()
+            .build(), HttpResponse.BodyHandlers.ofString());
+        if (overview.statusCode() != 200 || !overview.body().contains("logout.htm")) {
+            System.out.println("⚠️ HTTP login for " + username + " did not reach the overview");
+            return null;
+        }
+
+        for (HttpCookie cookie : cookies.getCookieStore().getCookies()) {
+            if (cookie.getName().equals(SESSION_COOKIE)) {
+                long ttlSeconds = cookie.getMaxAge() > 0
+                    ? cookie.getMaxAge()
+                    : Long.parseLong(ConfigReader.get("login.sessionTtlMinutes", "20")) * 60;
+                String path = cookie.getPath() != null ? cookie.getPath() : URI.create(ConfigReader.baseUrl()).getPath();
+                return new CachedSession(cookie.getName(), cookie.getValue(), path, Instant.now().plusSeconds(ttlSeconds));
+            }
+        }
+        return null;
+    }
+
+    private static boolean inject(WebDriver driver, CachedSession session) {
+        // Cookies can only be set for the domain the browser is currently on
+        driver.get(ConfigReader.pageUrl("index.htm"));
+        driver.manage().deleteCookieNamed(session.name());
+        driver.manage().addCookie(new Cookie.Builder(session.name(), session.value())
+            .path(session.path())
+            .isHttpOnly(true)
+            .build());
+        driver.get(ConfigReader.pageUrl("overview.htm"));
+        return !driver.findElements(By.cssSelector("a[href*='logout.htm']")).isEmpty();
+    }
+}
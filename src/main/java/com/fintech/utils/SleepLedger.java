@@ -0,0 +1,101 @@
+package com.fintech.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// 🔹 Accounts for every fixed safeSleep: per test and per call site, so the worst offenders can be replaced
+public class SleepLedger {
+
+    public record Entry(String site, long millis) {}
+
+    private record SiteTotal(LongAdder millis, LongAdder count) {}
+
+    private static final ThreadLocal<List<Entry>> current = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<String, SiteTotal> bySite = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> byTest = new ConcurrentHashMap<>();
+    private static final StackWalker walker = StackWalker.getInstance();
+
+    public static void sleep(long millis) {
+        if (millis <= 0) return;
+        String site = callerSite();
+        current.get().add(new Entry(site, millis));
+        SiteTotal total = bySite.computeIfAbsent(site, s -> new SiteTotal(new LongAdder(), new LongAdder()));
+        total.millis().add(millis);
+        total.count().increment();
+
+        try (Tracer.Span span = Tracer.span("sleep", "sleep", site + " " + millis + " ms")) {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void begin() {
+        current.remove();
+    }
+
+    // 🔹 Closes the thread's ledger for one test and returns what it slept
+    public static List<Entry> end(String testName) {
+        List<Entry> entries = List.copyOf(current.get());
+        current.remove();
+        long total = totalMillis(entries);
+        if (total > 0) byTest.computeIfAbsent(testName, t -> new LongAdder()).add(total);
+        return entries;
+    }
+
+    public static long totalMillis(List<Entry> entries) {
+        return entries.stream().mapToLong(Entry::millis).sum();
+    }
+
+    public static String summarize(List<Entry> entries) {
+        Map<String, Long> perSite = entries.stream()
+            .collect(Collectors.groupingBy(Entry::site, LinkedHashMap::new, Collectors.summingLong(Entry::millis)));
+        return perSite.entrySet().stream()
+            .map(e -> e.getKey() + " " + e.getValue() + " ms")
+            .collect(Collectors.joining(", "));
+    }
+
+    public static void writeReport(Path file) {
+        StringBuilder report = new StringBuilder("Fixed sleep report\n==================\n\n");
+        long total = bySite.values().stream().mapToLong(t -> t.millis().sum()).sum();
+        report.append("Total wall time in fixed sleeps: ").append(total).append(" ms\n\n");
+
+        report.append("By call site (ms / calls):\n");
+        bySite.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, SiteTotal> e) -> e.getValue().millis().sum()).reversed())
+            .forEach(e -> report.append(String.format("  %8d ms  %5d×  %s%n",
+                e.getValue().millis().sum(), e.getValue().count().sum(), e.getKey())));
+
+        report.append("\nBy test (ms):\n");
+        byTest.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+            .forEach(e -> report.append(String.format("  %8d ms  %s%n", e.getValue().sum(), e.getKey())));
+
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, report.toString(), StandardCharsets.UTF_8);
+            System.out.println("💤 Sleep report → " + file + " (" + total + " ms total)");
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write sleep report: " + e.getMessage());
+        }
+    }
+
+    // 🔹 First frame outside the ledger and the safeSleep wrappers, e.g. LoginPage.open:55
+    private static String callerSite() {
+        return walker.walk(frames -> frames
+            .filter(f -> !f.getClassName().equals(SleepLedger.class.getName()) && !f.getMethodName().equals("safeSleep"))
+            .findFirst()
+            .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "." + f.getMethodName() + ":" + f.getLineNumber())
+            .orElse("unknown"));
+    }
+}
@@ -0,0 +1,169 @@
+package com.fintech.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// 🔹 Lock-free suite metrics (LongAdder counters and bucketed histograms) updated from the hot paths,
+//    served live in Prometheus text format at http://localhost:<metrics.port>/metrics when metrics.enabled=true
+public class SuiteMetrics {
+
+    private record Series(String name, String labels) {}
+
+    private record Meta(String type, String help) {}
+
+    private static final class Histogram {
+        final LongAdder[] buckets = new LongAdder[BOUNDS.length];
+        final LongAdder count = new LongAdder();
+        final DoubleAdder sum = new DoubleAdder();
+
+        Histogram() {
+            for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+        }
+
+        void observe(double seconds) {
+            for (int i = 0; i < BOUNDS.length; i++) {
+                if (seconds <= BOUNDS[i]) {
+                    buckets[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            sum.add(seconds);
+        }
+    }
+
+    // Upper bounds in seconds; anything slower only lands in +Inf
+    private static final double[] BOUNDS = {0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 15, 30, 60};
+
+    private static final Map<String, Meta> meta = new ConcurrentHashMap<>();
+    private static final Map<Series, LongAdder> counters = new ConcurrentHashMap<>();
+    private static final Map<Series, Histogram> histograms = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private static HttpServer server;
+
+    static {
+        meta.put("parabank_tests_started_total", new Meta("counter", "Test methods started, by browser"));
+        meta.put("parabank_tests_finished_total", new Meta("counter", "Test methods finished, by browser and result"));
+        meta.put("parabank_test_retries_total", new Meta("counter", "Retries granted by the retry analyzers"));
+        meta.put("parabank_driver_startup_seconds", new Meta("histogram", "Time to launch a new browser session"));
+        meta.put("parabank_wait_seconds", new Meta("histogram", "Explicit wait durations, by outcome"));
+        meta.put("parabank_screenshots_dropped_total", new Meta("counter", "Screenshots dropped because the writer queue stayed full"));
+    }
+
+    // 🔹 labels are name/value pairs: increment("parabank_tests_started_total", "browser", "chrome")
+    public static void increment(String name, String... labels) {
+        counters.computeIfAbsent(new Series(name, render(labels)), s -> new LongAdder()).increment();
+    }
+
+    public static void observeNanos(String name, long nanos, String... labels) {
+        histograms.computeIfAbsent(new Series(name, render(labels)), s -> new Histogram()).observe(nanos / 1e9);
+    }
+
+    public static void gauge(String name, String help, LongSupplier value) {
+        meta.put(name, new Meta("gauge", help));
+        gauges.put(name, value);
+    }
+
+    // 🔹 Sum of a counter over every series carrying the given labels
+    public static long count(String name, String... labels) {
+        String wanted = render(labels);
+        return counters.entrySet().stream()
+            .filter(e -> e.getKey().name().equals(name) && e.getKey().labels().contains(wanted))
+            .mapToLong(e -> e.getValue().sum())
+            .sum();
+    }
+
+    private static String render(String... labels) {
+        if (labels.length == 0) return "";
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i + 1 < labels.length; i += 2) {
+            if (out.length() > 0) out.append(',');
+            out.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+        }
+        return out.toString();
+    }
+
+    private static String escape(String value) {
+        return String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    // 🔹 Prometheus text exposition format 0.0.4
+    public static String scrape() {
+        Map<String, StringBuilder> byName = new TreeMap<>();
+        counters.forEach((series, value) -> byName.computeIfAbsent(series.name(), n -> new StringBuilder())
+            .append(sample(series.name(), series.labels(), value.sum())));
+        histograms.forEach((series, histogram) -> {
+            StringBuilder out = byName.computeIfAbsent(series.name(), n -> new StringBuilder());
+            long cumulative = 0;
+            for (int i = 0; i < BOUNDS.length; i++) {
+                cumulative += histogram.buckets[i].sum();
+                out.append(sample(series.name() + "_bucket", withLe(series.labels(), String.valueOf(BOUNDS[i])), cumulative));
+            }
+            out.append(sample(series.name() + "_bucket", withLe(series.labels(), "+Inf"), histogram.count.sum()));
+            out.append(sample(series.name() + "_sum", series.labels(), histogram.sum.sum()));
+            out.append(sample(series.name() + "_count", series.labels(), histogram.count.sum()));
+        });
+        gauges.forEach((name, value) -> byName.computeIfAbsent(name, n -> new StringBuilder())
+            .append(sample(name, "", value.getAsLong())));
+
+        StringBuilder text = new StringBuilder();
+        byName.forEach((name, samples) -> {
+            Meta m = meta.getOrDefault(name, new Meta("untyped", name));
+            text.append("# HELP ").append(name).append(' ').append(m.help()).append('\n');
+            text.append("# TYPE ").append(name).append(' ').append(m.type()).append('\n');
+            text.append(samples);
+        });
+        return text.toString();
+    }
+
+    private static String withLe(String labels, String le) {
+        return (labels.isEmpty() ? "" : labels + ",") + "le=\"" + le + "\"";
+    }
+
+    private static String sample(String name, String labels, Number value) {
+        return name + (labels.isEmpty() ? "" : "{" + labels + "}") + " " + value + "\n";
+    }
+
+    // 🔹 Opt-in: metrics.enabled=true serves /metrics on metrics.port for the length of the run
+    public static synchronized void startServer() {
+        if (server != null || !Boolean.parseBoolean(ConfigReader.get("metrics.enabled", "false"))) return;
+        try {
+            int port = Integer.parseInt(ConfigReader.get("metrics.port", "9464"));
+            HttpServer http = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+            http.createContext("/metrics", SuiteMetrics::handle);
+            http.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            http.start();
+            server = http;
+            System.out.println("📈 Metrics → http://localhost:" + http.getAddress().getPort() + "/metrics");
+        } catch (IOException e) {
+            System.out.println("⚠️ Metrics endpoint not started: " + e.getMessage());
+        }
+    }
+
+    public static synchronized void stopServer() {
+        if (server == null) return;
+        server.stop(0);
+        server = null;
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
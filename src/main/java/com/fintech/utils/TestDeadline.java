@@ -0,0 +1,83 @@
+package com.fintech.utils;
+
+import java.time.Duration;
+
+// 🔹 Per-test time budget shared by every wait on the thread, so retries and fallbacks can't stack timeouts past it
+public class TestDeadline {
+
+    private static final ThreadLocal<TestDeadline> current = new ThreadLocal<>();
+
+    private final String testName;
+    private final Duration budget;
+    private final long startNanos = System.nanoTime();
+    private volatile boolean exhausted;
+
+    private TestDeadline(String testName, Duration budget) {
+        this.testName = testName;
+        this.budget = budget;
+    }
+
+    public static TestDeadline start(String testName, Duration budget) {
+        TestDeadline deadline = new TestDeadline(testName, budget);
+        current.set(deadline);
+        return deadline;
+    }
+
+    public static TestDeadline current() {
+        return current.get();
+    }
+
+    public static TestDeadline end() {
+        TestDeadline deadline = current.get();
+        current.remove();
+        return deadline;
+    }
+
+    // 🔹 deadline.<group>.seconds for the first group that has one, else deadline.seconds
+    public static Duration budgetFor(String... groups) {
+        for (String group : groups) {
+            String seconds = ConfigReader.get("deadline." + group + ".seconds");
+            if (seconds != null && !seconds.isBlank()) return Duration.ofSeconds(Long.parseLong(seconds.trim()));
+        }
+        return Duration.ofSeconds(Long.parseLong(ConfigReader.get("deadline.seconds", "180")));
+    }
+
+    // 🔹 What a wait may actually spend: the requested timeout, capped by what is left of the test's budget
+    public static Duration clamp(Duration requested) {
+        TestDeadline deadline = current.get();
+        if (deadline == null) return requested;
+        Duration remaining = deadline.remaining();
+        return remaining.compareTo(requested) < 0 ? remaining : requested;
+    }
+
+    public Duration budget() {
+        return budget;
+    }
+
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    public Duration remaining() {
+        Duration remaining = budget.minus(elapsed());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    public boolean isExpired() {
+        return remaining().isZero();
+    }
+
+    public void markExhausted() {
+        exhausted = true;
+    }
+
+    // 🔹 true once a wait was cut short by the budget rather than its own timeout
+    public boolean wasExhausted() {
+        return exhausted;
+    }
+
+    public String describe() {
+        return String.format("%s used %.1f s of its %d s budget (%.1f s left)",
+            testName, elapsed().toMillis() / 1000.0, budget.toSeconds(), remaining().toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,199 @@
+package com.fintech.utils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 🔹 Nested timing spans (test → page-object method → action → WebDriver command) written as Chrome trace_event JSON;
+//    open target/trace.json in Perfetto or chrome://tracing — one track per worker thread
+public class Tracer {
+
+    // 🔹 Try-with-resources handle: the span is recorded when it closes
+    public static final class Span implements AutoCloseable {
+        private final String name;
+        private final String category;
+        private final String detail;
+        private final long start;
+        private boolean closed;
+
+        private Span(String name, String category, String detail) {
+            this.name = name;
+            this.category = category;
+            this.detail = detail;
+            this.start = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            long end = System.nanoTime();
+            touchPageSpans(end);
+            record(name, category, detail, start, end);
+        }
+    }
+
+    private record Event(String name, String category, String detail, long startNanos, long endNanos, long tid) {}
+
+    // Page-object methods aren't wrapped one by one: they are inferred from the call stack at each action/command
+    private static final class PageSpan {
+        final String method;
+        final long start;
+        long lastSeen;
+
+        PageSpan(String method, long start) {
+            this.method = method;
+            this.start = start;
+            this.lastSeen = start;
+        }
+    }
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.get("trace.enabled", "true"));
+    private static final int MAX_EVENTS = Integer.parseInt(ConfigReader.get("trace.maxEvents", "500000"));
+    private static final long BASE = System.nanoTime();
+    private static final Span NOOP = new Span("", "", null);
+
+    private static final Queue<Event> events = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger eventCount = new AtomicInteger();
+    private static final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Deque<PageSpan>> pageSpans = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final StackWalker walker = StackWalker.getInstance();
+
+    static {
+        NOOP.closed = true;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static Span span(String name, String category) {
+        return span(name, category, null);
+    }
+
+    public static Span span(String name, String category, Object detail) {
+        if (!ENABLED) return NOOP;
+        syncPageSpans();
+        return new Span(name, category, detail == null ? null : String.valueOf(detail));
+    }
+
+    // 🔹 For callers that already timed the work (e.g. the WebDriver command listener)
+    public static void complete(String name, String category, long startNanos, long endNanos) {
+        if (!ENABLED) return;
+        touchPageSpans(endNanos);
+        record(name, category, null, startNanos, endNanos);
+    }
+
+    // 🔹 Reconcile open page-object spans with the page methods currently on the stack (outermost first)
+    public static void syncPageSpans() {
+        if (!ENABLED) return;
+        List<String> frames = walker.walk(s -> s
+            .filter(f -> f.getClassName().startsWith("com.fintech.pages.") && !f.getClassName().endsWith(".BasePage"))
+            .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "."
+                + f.getMethodName().replaceAll("^lambda\\$(.+)\\$\\d+$", "$1"))
+            .toList());
+        List<String> outermostFirst = new ArrayList<>(frames);
+        Collections.reverse(outermostFirst);
+
+        Deque<PageSpan> open = pageSpans.get();
+        List<PageSpan> openList = new ArrayList<>(open); // bottom → top
+        Collections.reverse(openList);
+        int common = 0;
+        while (common < openList.size() && common < outermostFirst.size()
+            && openList.get(common).method.equals(outermostFirst.get(common))) {
+            common++;
+        }
+        // Methods that returned since the last action end where they were last seen
+        while (open.size() > common) {
+            PageSpan done = open.pop();
+            record(done.method, "page", null, done.start, done.lastSeen);
+        }
+        long now = System.nanoTime();
+        for (int i = common; i < outermostFirst.size(); i++) {
+            open.push(new PageSpan(outermostFirst.get(i), now));
+        }
+    }
+
+    private static void touchPageSpans(long now) {
+        for (PageSpan span : pageSpans.get()) {
+            span.lastSeen = now;
+        }
+    }
+
+    // 🔹 Test end: flush whatever page spans are still open on this thread
+    public static void closePageSpans() {
+        if (!ENABLED) return;
+        Deque<PageSpan> open = pageSpans.get();
+        while (!open.isEmpty()) {
+            PageSpan done = open.pop();
+            record(done.method, "page", null, done.start, done.lastSeen);
+        }
+        pageSpans.remove();
+    }
+
+    private static void record(String name, String category, String detail, long start, long end) {
+        if (eventCount.incrementAndGet() > MAX_EVENTS) return;
+        Thread thread = Thread.currentThread();
+        threadNames.computeIfAbsent(thread.threadId(), id -> thread.getName());
+        events.add(new Event(name, category, detail, start, end, thread.threadId()));
+    }
+
+    public static void write(Path file) {
+        if (!ENABLED || events.isEmpty()) return;
+        try {
+            Files.createDirectories(file.getParent());
+            try (JsonGenerator json = new JsonFactory().createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+                json.writeStartObject();
+                json.writeStringField("displayTimeUnit", "ms");
+                json.writeArrayFieldStart("traceEvents");
+                for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+                    json.writeStartObject();
+                    json.writeStringField("name", "thread_name");
+                    json.writeStringField("ph", "M");
+                    json.writeNumberField("pid", 1);
+                    json.writeNumberField("tid", thread.getKey());
+                    json.writeObjectFieldStart("args");
+                    json.writeStringField("name", thread.getValue());
+                    json.writeEndObject();
+                    json.writeEndObject();
+                }
+                for (Event event : events) {
+                    json.writeStartObject();
+                    json.writeStringField("name", event.name());
+                    json.writeStringField("cat", event.category());
+                    json.writeStringField("ph", "X");
+                    json.writeNumberField("ts", (event.startNanos() - BASE) / 1000.0);
+                    json.writeNumberField("dur", Math.max(0, event.endNanos() - event.startNanos()) / 1000.0);
+                    json.writeNumberField("pid", 1);
+                    json.writeNumberField("tid", event.tid());
+                    if (event.detail() != null) {
+                        json.writeObjectFieldStart("args");
+                        json.writeStringField("detail", event.detail());
+                        json.writeEndObject();
+                    }
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+            int dropped = Math.max(0, eventCount.get() - MAX_EVENTS);
+            System.out.println("🧭 Trace → " + file + " (" + events.size() + " spans" + (dropped > 0 ? ", " + dropped + " dropped" : "") + ")");
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write trace: " + e.getMessage());
+        }
+    }
+}
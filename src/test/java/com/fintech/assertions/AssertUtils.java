@@ -1,7 +1,11 @@
 package com.fintech.assertions;
 
+import com.fintech.utils.NavigationTiming;
 import org.testng.Assert;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class AssertUtils {
 
     public static void assertTransferSuccess(String confirmationText) {
@@ -19,4 +23,11 @@ public class AssertUtils {
     public static void assertErrorMessage(String actual, String expected) {
         Assert.assertTrue(actual.contains(expected), "❌ Expected error not shown");
     }
+
+    // 🔹 Per-page navBudget.* from config; reports every page load over budget, not just the first
+    public static void assertNavigationWithinBudget(List<NavigationTiming.Sample> samples) {
+        List<String> over = new ArrayList<>();
+        samples.forEach(sample -> over.addAll(NavigationTiming.violations(sample)));
+        Assert.assertTrue(over.isEmpty(), "❌ Navigation over budget: " + String.join("; ", over));
+    }
 }
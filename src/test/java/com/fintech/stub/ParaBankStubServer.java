@@ -0,0 +1,409 @@
+package com.fintech.stub;
+
+import com.fintech.stub.StubBank.Account;
+import com.fintech.stub.StubBank.Customer;
+import com.fintech.stub.StubBank.LoanResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+// 🔹 In-process ParaBank stand-in for hermetic runs (-Dstub.enabled=true)
+public class ParaBankStubServer {
+
+    private static final String CONTEXT = "/parabank/";
+    private static final String SESSION_COOKIE = "JSESSIONID";
+    private static final String SERVICES = "services/bank/";
+    private static final List<String> ACCOUNT_TYPES = List.of("CHECKING", "SAVINGS", "LOAN");
+    private static final ObjectMapper json = new ObjectMapper();
+
+    private final HttpServer server;
+    private final StubBank bank = StubBank.seeded();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    private static final class Session {
+        private final int customerId;
+        private volatile int lastAccountId = -1;
+        private volatile LoanResult lastLoan;
+
+        Session(int customerId) {
+            this.customerId = customerId;
+        }
+    }
+
+    private ParaBankStubServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static ParaBankStubServer start(int port) throws IOException {
+        HttpServer http = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        ParaBankStubServer stub = new ParaBankStubServer(http);
+        http.createContext(CONTEXT, stub::handle);
+        http.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        http.start();
+        System.out.println("🏦 ParaBank stand-in listening on " + stub.baseUrl());
+        return stub;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + CONTEXT;
+    }
+
+    public StubBank bank() {
+        return bank;
+    }
+
+    public void stop() {
+        server.stop(0);
+        System.out.println("🏦 ParaBank stand-in stopped");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String page = exchange.getRequestURI().getPath().substring(CONTEXT.length());
+            Map<String, String> params = parameters(exchange);
+            Session session = session(exchange);
+            boolean post = "POST".equalsIgnoreCase(exchange.getRequestMethod());
+
+            if (page.startsWith(SERVICES)) {
+                services(exchange, page.substring(SERVICES.length()), params, post);
+                return;
+            }
+
+            switch (page) {
+                case "", "index.htm", "home.htm" -> html(exchange, 200, "Welcome | Online Banking", session, StubPages.home());
+                case "login.htm" -> login(exchange, params, session);
+                case "logout.htm" -> {
+                    String id = cookie(exchange);
+                    if (id != null) sessions.remove(id);
+                    redirect(exchange, "index.htm", null);
+                }
+                case "about.htm" -> html(exchange, 200, "About Us", session, StubPages.simple("ParaBank is a demo site"));
+                case "services.htm" -> html(exchange, 200, "Services", session, StubPages.simple("Available Bookstore SOAP services"));
+                case "contact.htm" -> contact(exchange, params, session, post);
+                case "overview.htm", "activity.htm", "findtrans.htm", "transfer.htm", "openaccount.htm",
+                     "requestloan.htm", "loanstatus.htm", "billpay.htm", "updateprofile.htm" -> {
+                    if (session == null) {
+                        html(exchange, 200, "Error", null, StubPages.internalError());
+                    } else {
+                        secured(exchange, page, params, session, post);
+                    }
+                }
+                default -> html(exchange, 404, "Error", session, StubPages.simple("Page not found"));
+            }
+        } catch (Exception e) {
+            System.out.println("⚠️ Stand-in request failed: " + e.getMessage());
+            // Answer with a 500 unless the response is already under way — a dropped connection hides the cause
+            if (exchange.getResponseCode() == -1) {
+                sendText(exchange, 500, "Stand-in request failed: " + e);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // 🔹 JSON subset of ParaBank's /services/bank REST API used by ParaBankApiClient
+    private void services(HttpExchange exchange, String path, Map<String, String> params, boolean post) throws IOException {
+        String[] parts = path.split("/");
+        try {
+            Object body = switch (parts[0]) {
+                case "login" -> parts.length == 3
+                    ? bank.authenticate(parts[1], parts[2]).map(this::customerJson)
+                        .orElseThrow(() -> new IllegalArgumentException("Invalid username and/or password"))
+                    : null;
+                case "customers" -> parts.length == 3 && parts[2].equals("accounts")
+                    ? bank.accountsFor(Integer.parseInt(parts[1])).stream().map(this::accountJson).toList()
+                    : null;
+                case "accounts" -> parts.length == 2
+                    ? bank.account(Integer.parseInt(parts[1])).map(this::accountJson)
+                        .orElseThrow(() -> new IllegalArgumentException("Could not find account #" + parts[1]))
+                    : null;
+                case "createAccount" -> post ? accountJson(bank.openAccount(
+                    intParam(params, "customerId", -1),
+                    ACCOUNT_TYPES.get(intParam(params, "newAccountType", 0)),
+                    intParam(params, "fromAccountId", -1))) : null;
+                case "transfer" -> {
+                    if (!post) yield null;
+                    BigDecimal amount = decimal(params.get("amount"));
+                    if (amount == null || amount.signum() <= 0) throw new IllegalArgumentException("Invalid amount");
+                    int from = intParam(params, "fromAccountId", -1);
+                    int to = intParam(params, "toAccountId", -1);
+                    bank.transfer(from, to, amount);
+                    yield "Successfully transferred $" + amount.toPlainString() + " from account #" + from + " to account #" + to;
+                }
+                case "requestLoan" -> {
+                    if (!post) yield null;
+                    BigDecimal amount = decimal(params.get("amount"));
+                    BigDecimal downPayment = decimal(params.get("downPayment"));
+                    if (amount == null || downPayment == null) throw new IllegalArgumentException("Invalid loan amount or down payment");
+                    LoanResult result = bank.requestLoan(intParam(params, "customerId", -1), amount, downPayment,
+                        intParam(params, "fromAccountId", -1));
+                    Map<String, Object> loan = new LinkedHashMap<>();
+                    loan.put("responseDate", result.date().toString());
+                    loan.put("loanProviderName", "ParaBank Stand-in");
+                    loan.put("approved", result.approved());
+                    loan.put("message", result.message());
+                    loan.put("accountId", result.newAccountId());
+                    yield loan;
+                }
+                default -> null;
+            };
+
+            if (body == null) {
+                sendText(exchange, 404, "Not found: " + path);
+            } else if (body instanceof String text) {
+                sendText(exchange, 200, text);
+            } else {
+                byte[] bytes = json.writeValueAsBytes(body);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            sendText(exchange, 400, e.getMessage());
+        }
+    }
+
+    private Map<String, Object> customerJson(Customer customer) {
+        Map<String, Object> node = new LinkedHashMap<>();
+        node.put("id", customer.id());
+        node.put("firstName", customer.firstName());
+        node.put("lastName", customer.lastName());
+        return node;
+    }
+
+    private Map<String, Object> accountJson(Account account) {
+        Map<String, Object> node = new LinkedHashMap<>();
+        node.put("id", account.getId());
+        node.put("customerId", account.getCustomerId());
+        node.put("type", account.getType());
+        node.put("balance", account.getBalance());
+        return node;
+    }
+
+    private void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void secured(HttpExchange exchange, String page, Map<String, String> params, Session session, boolean post) throws IOException {
+        List<Account> accounts = bank.accountsFor(session.customerId);
+
+        switch (page) {
+            case "overview.htm" -> html(exchange, 200, "Accounts Overview", session, StubPages.overview(accounts));
+            case "activity.htm" -> {
+                Account account = bank.account(intParam(params, "id", -1)).orElse(null);
+                if (account == null || account.getCustomerId() != session.customerId) {
+                    html(exchange, 200, "Error", session, StubPages.internalError());
+                    return;
+                }
+                session.lastAccountId = account.getId();
+                html(exchange, 200, "Account Activity", session,
+                    StubPages.activity(account, bank.transactionsFor(account.getId(), null, null)));
+            }
+            case "findtrans.htm" -> {
+                int fallback = session.lastAccountId > 0 ? session.lastAccountId : accounts.get(0).getId();
+                int selected = intParam(params, "accountId", fallback);
+                String fromDate = params.getOrDefault("fromDate", "");
+                String toDate = params.getOrDefault("toDate", "");
+                html(exchange, 200, "Find Transactions", session, StubPages.findTransactions(accounts, selected, fromDate, toDate,
+                    bank.transactionsFor(selected, date(fromDate), date(toDate))));
+            }
+            case "transfer.htm" -> {
+                if (!post) {
+                    html(exchange, 200, "Transfer Funds", session, StubPages.transferForm(accounts, null));
+                    return;
+                }
+                String error = validateTransfer(params);
+                if (error != null) {
+                    html(exchange, 200, "Transfer Funds", session, StubPages.transferForm(accounts, error));
+                    return;
+                }
+                BigDecimal amount = new BigDecimal(params.get("amount").trim());
+                int from = intParam(params, "fromAccountId", -1);
+                int to = intParam(params, "toAccountId", -1);
+                bank.transfer(from, to, amount);
+                html(exchange, 200, "Transfer Funds", session, StubPages.transferResult(amount.toPlainString(), from, to));
+            }
+            case "openaccount.htm" -> {
+                if (!post) {
+                    html(exchange, 200, "Open Account", session, StubPages.openAccountForm(accounts));
+                    return;
+                }
+                Account created = bank.openAccount(session.customerId, params.getOrDefault("type", "CHECKING"),
+                    intParam(params, "fromAccountId", accounts.get(0).getId()));
+                html(exchange, 200, "Open Account", session, StubPages.openAccountResult(created));
+            }
+            case "requestloan.htm" -> {
+                if (!post) {
+                    html(exchange, 200, "Loan Request", session, StubPages.loanForm(accounts, null));
+                    return;
+                }
+                BigDecimal amount = decimal(params.get("amount"));
+                BigDecimal downPayment = decimal(params.get("downPayment"));
+                if (amount == null || downPayment == null) {
+                    html(exchange, 200, "Loan Request", session,
+                        StubPages.loanForm(accounts, "Please enter a valid loan amount and down payment."));
+                    return;
+                }
+                session.lastLoan = bank.requestLoan(session.customerId, amount, downPayment,
+                    intParam(params, "fromAccountId", accounts.get(0).getId()));
+                html(exchange, 200, "Loan Request", session, StubPages.loanResult(session.lastLoan));
+            }
+            case "loanstatus.htm" -> html(exchange, 200, "Loan Request", session, session.lastLoan != null
+                ? StubPages.loanResult(session.lastLoan)
+                : StubPages.simple("No loan requests found"));
+            case "billpay.htm" -> html(exchange, 200, "Bill Pay", session, StubPages.simple("Bill Payment Service"));
+            default -> html(exchange, 200, "Update Profile", session, StubPages.simple("Update Profile"));
+        }
+    }
+
+    private String validateTransfer(Map<String, String> params) {
+        BigDecimal amount = decimal(params.get("amount"));
+        if (amount == null) return "The amount cannot be empty.";
+        if (amount.signum() <= 0) return "The amount must be greater than zero.";
+        if (params.getOrDefault("fromAccountId", "").equals(params.getOrDefault("toAccountId", ""))) {
+            return "The source and destination accounts must be different.";
+        }
+        return null;
+    }
+
+    private void login(HttpExchange exchange, Map<String, String> params, Session session) throws IOException {
+        String username = params.getOrDefault("username", "").trim();
+        String password = params.getOrDefault("password", "").trim();
+        if (username.isEmpty() || password.isEmpty()) {
+            loginError(exchange, session, "Please enter a username and password.");
+            return;
+        }
+
+        Customer customer = bank.authenticate(username, password).orElse(null);
+        if (customer == null) {
+            loginError(exchange, session, "The username and password could not be verified.");
+            return;
+        }
+
+        String id = UUID.randomUUID().toString().replace("-", "").toUpperCase();
+        sessions.put(id, new Session(customer.id()));
+        redirect(exchange, "overview.htm", SESSION_COOKIE + "=" + id + "; Path=" + CONTEXT.substring(0, CONTEXT.length() - 1) + "; HttpOnly");
+    }
+
+    private void loginError(HttpExchange exchange, Session session, String message) throws IOException {
+        Customer customer = session != null ? bank.customer(session.customerId).orElse(null) : null;
+        send(exchange, 200, StubPages.layout("Error", customer, message, ""));
+    }
+
+    private void contact(HttpExchange exchange, Map<String, String> params, Session session, boolean post) throws IOException {
+        if (!post) {
+            html(exchange, 200, "Customer Care", session, StubPages.contactForm(Map.of(), Map.of()));
+            return;
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (String field : List.of("name", "email", "phone", "message")) {
+            if (params.getOrDefault(field, "").isBlank()) {
+                errors.put(field, Character.toUpperCase(field.charAt(0)) + field.substring(1) + " is required.");
+            }
+        }
+        html(exchange, 200, "Customer Care", session, errors.isEmpty()
+            ? StubPages.contactThanks(params.get("name"))
+            : StubPages.contactForm(params, errors));
+    }
+
+    private void html(HttpExchange exchange, int status, String title, Session session, String content) throws IOException {
+        Customer customer = session != null ? bank.customer(session.customerId).orElse(null) : null;
+        send(exchange, status, StubPages.layout(title, customer, null, content));
+    }
+
+    private void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void redirect(HttpExchange exchange, String page, String setCookie) throws IOException {
+        if (setCookie != null) exchange.getResponseHeaders().add("Set-Cookie", setCookie);
+        exchange.getResponseHeaders().set("Location", CONTEXT + page);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    private Session session(HttpExchange exchange) {
+        String id = cookie(exchange);
+        return id != null ? sessions.get(id) : null;
+    }
+
+    private String cookie(HttpExchange exchange) {
+        List<String> headers = exchange.getRequestHeaders().get("Cookie");
+        if (headers == null) return null;
+        for (String header : headers) {
+            for (String pair : header.split(";")) {
+                String[] kv = pair.trim().split("=", 2);
+                if (kv.length == 2 && kv[0].equals(SESSION_COOKIE)) return kv[1];
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> parameters(HttpExchange exchange) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        parseInto(params, exchange.getRequestURI().getRawQuery());
+        if ("POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            parseInto(params, new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static void parseInto(Map<String, String> params, String encoded) {
+        if (encoded == null || encoded.isEmpty()) return;
+        for (String pair : encoded.split("&")) {
+            String[] kv = pair.split("=", 2);
+            params.put(URLDecoder.decode(kv[0], StandardCharsets.UTF_8),
+                kv.length > 1 ? URLDecoder.decode(kv[1], StandardCharsets.UTF_8) : "");
+        }
+    }
+
+    private static int intParam(Map<String, String> params, String name, int fallback) {
+        try {
+            return Integer.parseInt(params.getOrDefault(name, "").trim());
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static BigDecimal decimal(String value) {
+        try {
+            return value == null || value.isBlank() ? null : new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static LocalDate date(String value) {
+        try {
+            return value == null || value.isBlank() ? null : LocalDate.parse(value.trim(), StubPages.DATE);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
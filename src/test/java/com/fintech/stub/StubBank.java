@@ -0,0 +1,141 @@
+package com.fintech.stub;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 🔹 In-memory accounts and transactions behind the ParaBank stand-in
+public class StubBank {
+
+    public static final BigDecimal MINIMUM_DEPOSIT = new BigDecimal("100.00");
+
+    public record Customer(int id, String firstName, String lastName, String username, String password) {
+        public String fullName() {
+            return firstName + " " + lastName;
+        }
+    }
+
+    public record Transaction(int id, int accountId, LocalDate date, String type, BigDecimal amount, String description) {}
+
+    public record LoanResult(boolean approved, String message, Integer newAccountId, LocalDate date) {}
+
+    public static final class Account {
+        private final int id;
+        private final int customerId;
+        private final String type;
+        private BigDecimal balance;
+
+        Account(int id, int customerId, String type, BigDecimal balance) {
+            this.id = id;
+            this.customerId = customerId;
+            this.type = type;
+            this.balance = balance;
+        }
+
+        public int getId() { return id; }
+        public int getCustomerId() { return customerId; }
+        public String getType() { return type; }
+        public BigDecimal getBalance() { return balance; }
+    }
+
+    private final Map<Integer, Customer> customers = new LinkedHashMap<>();
+    private final Map<Integer, Account> accounts = new LinkedHashMap<>();
+    private final List<Transaction> transactions = new ArrayList<>();
+    private int nextAccountId = 14500;
+    private int nextTransactionId = 20000;
+
+    public static StubBank seeded() {
+        StubBank bank = new StubBank();
+        Customer john = new Customer(12212, "John", "Smith", "john", "demo");
+        bank.customers.put(john.id(), john);
+
+        bank.addAccount(12345, john.id(), "CHECKING", "1231.10");
+        bank.addAccount(12456, john.id(), "CHECKING", "10.45");
+        bank.addAccount(12789, john.id(), "SAVINGS", "-100.00");
+        bank.addAccount(13344, john.id(), "SAVINGS", "2942.93");
+        bank.addAccount(14455, john.id(), "CHECKING", "500.00");
+
+        bank.record(13344, LocalDate.of(2025, 9, 4), "Credit", "1000.00", "Deposit");
+        bank.record(13344, LocalDate.of(2025, 9, 12), "Debit", "57.07", "Bill Payment to Electric Co");
+        bank.record(13344, LocalDate.of(2025, 9, 26), "Debit", "250.00", "Funds Transfer Sent");
+        bank.record(13344, LocalDate.of(2025, 10, 3), "Credit", "2250.00", "Funds Transfer Received");
+        bank.record(12345, LocalDate.of(2025, 9, 18), "Credit", "1231.10", "Deposit");
+        return bank;
+    }
+
+    public synchronized Optional<Customer> authenticate(String username, String password) {
+        return customers.values().stream()
+            .filter(c -> c.username().equals(username) && c.password().equals(password))
+            .findFirst();
+    }
+
+    public synchronized Optional<Customer> customer(int customerId) {
+        return Optional.ofNullable(customers.get(customerId));
+    }
+
+    public synchronized List<Account> accountsFor(int customerId) {
+        return accounts.values().stream().filter(a -> a.customerId == customerId).toList();
+    }
+
+    public synchronized Optional<Account> account(int accountId) {
+        return Optional.ofNullable(accounts.get(accountId));
+    }
+
+    public synchronized List<Transaction> transactionsFor(int accountId, LocalDate from, LocalDate to) {
+        return transactions.stream()
+            .filter(t -> t.accountId() == accountId)
+            .filter(t -> from == null || !t.date().isBefore(from))
+            .filter(t -> to == null || !t.date().isAfter(to))
+            .toList();
+    }
+
+    public synchronized void transfer(int fromAccountId, int toAccountId, BigDecimal amount) {
+        Account from = requireAccount(fromAccountId);
+        Account to = requireAccount(toAccountId);
+        from.balance = from.balance.subtract(amount);
+        to.balance = to.balance.add(amount);
+        record(from.id, LocalDate.now(), "Debit", amount.toPlainString(), "Funds Transfer Sent");
+        record(to.id, LocalDate.now(), "Credit", amount.toPlainString(), "Funds Transfer Received");
+    }
+
+    public synchronized Account openAccount(int customerId, String type, int fromAccountId) {
+        Account from = requireAccount(fromAccountId);
+        Account created = addAccount(nextAccountId++, customerId, type, "0.00");
+        transfer(from.id, created.id, MINIMUM_DEPOSIT);
+        return created;
+    }
+
+    // 🔹 Same rule as ParaBank's "available funds" processor: the down payment must be covered
+    public synchronized LoanResult requestLoan(int customerId, BigDecimal amount, BigDecimal downPayment, int fromAccountId) {
+        Account from = requireAccount(fromAccountId);
+        if (downPayment.compareTo(from.balance) > 0 || downPayment.compareTo(amount) > 0) {
+            return new LoanResult(false, "We cannot grant a loan in that amount with your available funds.", null, LocalDate.now());
+        }
+
+        Account loan = addAccount(nextAccountId++, customerId, "LOAN", amount.toPlainString());
+        from.balance = from.balance.subtract(downPayment);
+        record(from.id, LocalDate.now(), "Debit", downPayment.toPlainString(), "Down Payment for Loan # " + loan.id);
+        record(loan.id, LocalDate.now(), "Credit", amount.toPlainString(), "Funds Transfer Received");
+        return new LoanResult(true, "Congratulations, your loan has been approved.", loan.id, LocalDate.now());
+    }
+
+    private Account requireAccount(int accountId) {
+        Account account = accounts.get(accountId);
+        if (account == null) throw new IllegalArgumentException("Could not find account number " + accountId);
+        return account;
+    }
+
+    private Account addAccount(int id, int customerId, String type, String balance) {
+        Account account = new Account(id, customerId, type, new BigDecimal(balance));
+        accounts.put(id, account);
+        return account;
+    }
+
+    private void record(int accountId, LocalDate date, String type, String amount, String description) {
+        transactions.add(new Transaction(nextTransactionId++, accountId, date, type, new BigDecimal(amount), description));
+    }
+}
@@ -0,0 +1,246 @@
+package com.fintech.stub;
+
+import com.fintech.stub.StubBank.Account;
+import com.fintech.stub.StubBank.Customer;
+import com.fintech.stub.StubBank.LoanResult;
+import com.fintech.stub.StubBank.Transaction;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+// 🔹 HTML for the stand-in, using the same ids/classes the page objects target
+final class StubPages {
+
+    static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+
+    private StubPages() {}
+
+    static String layout(String title, Customer customer, String loginError, String content) {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>ParaBank | ").append(esc(title)).append("</title>")
+            .append("<style>body{font-family:Arial,sans-serif}h1,h2{text-align:start}.error{color:red}</style></head><body>")
+            .append("<div id=\"headerPanel\"><a href=\"index.htm\" class=\"logo\">ParaBank</a>")
+            .append("<ul class=\"button\"><li class=\"home\"><a href=\"index.htm\">home</a></li>")
+            .append("<li class=\"aboutus\"><a href=\"about.htm\">about</a></li>")
+            .append("<li class=\"contact\"><a href=\"contact.htm\">contact</a></li></ul></div>")
+            .append("<div id=\"leftPanel\">");
+
+        if (customer == null) {
+            html.append("<h2>Customer Login</h2><form name=\"login\" method=\"post\" action=\"login.htm\">")
+                .append("<p>Username</p><input type=\"text\" class=\"input\" name=\"username\">")
+                .append("<p>Password</p><input type=\"password\" class=\"input\" name=\"password\">")
+                .append("<input type=\"submit\" class=\"button\" value=\"Log In\"></form>");
+        } else {
+            html.append("<p class=\"smallText\"><b>Welcome</b> ").append(esc(customer.fullName())).append("</p>")
+                .append("<h2>Account Services</h2><ul>")
+                .append("<li><a href=\"openaccount.htm\">Open New Account</a></li>")
+                .append("<li><a href=\"overview.htm\">Accounts Overview</a></li>")
+                .append("<li><a href=\"transfer.htm\">Transfer Funds</a></li>")
+                .append("<li><a href=\"billpay.htm\">Bill Pay</a></li>")
+                .append("<li><a href=\"findtrans.htm\">Find Transactions</a></li>")
+                .append("<li><a href=\"updateprofile.htm\">Update Contact Info</a></li>")
+                .append("<li><a href=\"requestloan.htm\">Request Loan</a></li>")
+                .append("<li><a href=\"logout.htm\">Log Out</a></li></ul>");
+        }
+
+        html.append("</div><div id=\"rightPanel\">");
+        if (loginError != null) {
+            html.append("<h1 class=\"title\">Error!</h1><p class=\"error\">").append(esc(loginError)).append("</p>");
+        } else {
+            html.append(content);
+        }
+        html.append("</div><div id=\"footerPanel\"><ul>")
+            .append("<li><a href=\"index.htm\">Home</a> | </li><li><a href=\"about.htm\">About Us</a> | </li>")
+            .append("<li><a href=\"services.htm\">Services</a> | </li><li><a href=\"contact.htm\">Contact Us</a></li>")
+            .append("</ul></div></body></html>");
+        return html.toString();
+    }
+
+    static String home() {
+        return "<h2>Welcome to ParaBank</h2><p class=\"caption\">Experience the difference</p>";
+    }
+
+    static String simple(String heading) {
+        return "<h1 class=\"title\">" + esc(heading) + "</h1>";
+    }
+
+    static String internalError() {
+        return "<h1 class=\"title\">Error!</h1><p class=\"error\">An internal error has occurred and has been logged.</p>";
+    }
+
+    // 🔹 Live transfer/open-account/loan pages end with this block, hidden until one of their AJAX calls fails
+    static String hiddenError() {
+        return "<div id=\"showError\" style=\"display: none;\">" + internalError() + "</div>";
+    }
+
+    static String overview(List<Account> accounts) {
+        StringBuilder html = new StringBuilder("<div id=\"showOverview\"><h1 class=\"title\">Accounts Overview</h1>")
+            .append("<table id=\"accountTable\" class=\"table\"><thead><tr><th>Account</th><th>Balance*</th><th>Available Amount</th></tr></thead><tbody>");
+        BigDecimal total = BigDecimal.ZERO;
+        for (Account account : accounts) {
+            html.append("<tr><td><a href=\"activity.htm?id=").append(account.getId()).append("\">").append(account.getId()).append("</a></td>")
+                .append("<td>").append(money(account.getBalance())).append("</td>")
+                .append("<td>").append(money(account.getBalance().max(BigDecimal.ZERO))).append("</td></tr>");
+            total = total.add(account.getBalance());
+        }
+        html.append("<tr><td><b>Total</b></td><td><b>").append(money(total)).append("</b></td><td>&nbsp;</td></tr>")
+            .append("</tbody></table><p class=\"smallText\">*Balance includes deposits that may be subject to holds</p></div>");
+        return html.toString();
+    }
+
+    static String activity(Account account, List<Transaction> transactions) {
+        return "<div id=\"accountDetails\"><h1 class=\"title\">Account Details</h1><table>"
+            + "<tr><td>Account Number:</td><td id=\"accountId\">" + account.getId() + "</td></tr>"
+            + "<tr><td>Account Type:</td><td id=\"accountType\">" + account.getType() + "</td></tr>"
+            + "<tr><td>Balance:</td><td id=\"balance\">" + money(account.getBalance()) + "</td></tr>"
+            + "<tr><td>Available:</td><td id=\"availableBalance\">" + money(account.getBalance().max(BigDecimal.ZERO)) + "</td></tr>"
+            + "</table></div><div id=\"accountActivity\"><h1 class=\"title\">Account Activity</h1>"
+            + transactionTable(transactions) + "</div>";
+    }
+
+    static String findTransactions(List<Account> accounts, int selected, String fromDate, String toDate, List<Transaction> transactions) {
+        StringBuilder html = new StringBuilder("<h1 class=\"title\">Find Transactions</h1>")
+            .append("<form id=\"findTransactionsForm\" method=\"get\" action=\"findtrans.htm\"><p>Select an account: ")
+            .append(accountSelect("accountId", accounts, selected)).append("</p>")
+            .append("<button type=\"submit\" id=\"findById\" class=\"button\" name=\"criteria\" value=\"id\">Find Transactions</button>")
+            .append("<p>Find by Date Range: between <input id=\"fromDate\" name=\"fromDate\" value=\"").append(esc(fromDate)).append("\">")
+            .append(" and <input id=\"toDate\" name=\"toDate\" value=\"").append(esc(toDate)).append("\">")
+            .append(" <input type=\"submit\" class=\"button\" id=\"findByDateRange\" value=\"Filter\"></p></form>")
+            .append("<div id=\"resultContainer\"><h1 class=\"title\">Transaction Results</h1>")
+            .append(transactionTable(transactions)).append("</div>");
+        return html.toString();
+    }
+
+    static String transactionTable(List<Transaction> transactions) {
+        StringBuilder html = new StringBuilder("<table id=\"transactionTable\" class=\"gridTable\"><thead><tr>")
+            .append("<th onclick=\"sortTransactions(0)\">Date</th><th onclick=\"sortTransactions(1)\">Transaction</th>")
+            .append("<th onclick=\"sortTransactions(2)\">Debit (-)</th><th onclick=\"sortTransactions(3)\">Credit (+)</th>")
+            .append("</tr></thead><tbody id=\"transactionBody\">");
+        for (Transaction t : transactions) {
+            boolean debit = "Debit".equals(t.type());
+            html.append("<tr><td>").append(t.date().format(DATE)).append("</td>")
+                .append("<td><a href=\"transaction.htm?id=").append(t.id()).append("\">").append(esc(t.description())).append("</a></td>")
+                .append("<td>").append(debit ? money(t.amount()) : "").append("</td>")
+                .append("<td>").append(debit ? "" : money(t.amount())).append("</td></tr>");
+        }
+        html.append("</tbody></table><script>")
+            .append("var sortState={};function sortTransactions(c){var b=document.getElementById('transactionBody');")
+            .append("var rows=Array.prototype.slice.call(b.rows);var asc=sortState[c]=!sortState[c];")
+            .append("function key(r){var t=r.cells[c].innerText.trim();if(c===0){var p=t.split('/');return p[2]+p[0]+p[1];}")
+            .append("if(c>1){return parseFloat(t.replace(/[^0-9.-]/g,''))||0;}return t;}")
+            .append("rows.sort(function(x,y){var a=key(x),d=key(y);return (a<d?-1:a>d?1:0)*(asc?1:-1);});")
+            .append("rows.forEach(function(r){b.appendChild(r);});}</script>");
+        return html.toString();
+    }
+
+    static String transferForm(List<Account> accounts, String error) {
+        return "<div id=\"showForm\"><h1 class=\"title\">Transfer Funds</h1>"
+            + (error != null ? "<p class=\"error\">" + esc(error) + "</p>" : "")
+            + "<form id=\"transferForm\" method=\"post\" action=\"transfer.htm\">"
+            + "<p><b>Amount:</b> $<input id=\"amount\" name=\"amount\" type=\"text\"></p>"
+            + "<div>From account #" + accountSelect("fromAccountId", accounts, -1)
+            + " to account #" + accountSelect("toAccountId", accounts, -1) + "</div>"
+            + "<input type=\"submit\" class=\"button\" value=\"Transfer\"></form></div>" + hiddenError();
+    }
+
+    static String transferResult(String amount, int from, int to) {
+        return "<div id=\"showResult\"><h1 class=\"title\">Transfer Complete!</h1>"
+            + "<p>$<span id=\"amountResult\">" + esc(amount) + "</span> has been transferred from account #"
+            + "<span id=\"fromAccountIdResult\">" + from + "</span> to account #"
+            + "<span id=\"toAccountIdResult\">" + to + "</span>.</p>"
+            + "<p>See Account Activity for more details.</p></div>" + hiddenError();
+    }
+
+    static String openAccountForm(List<Account> accounts) {
+        return "<div id=\"openAccountForm\"><h1 class=\"title\">Open New Account</h1>"
+            + "<form id=\"openAccount\" method=\"post\" action=\"openaccount.htm\">"
+            + "<p><b>What type of Account would you like to open?</b></p>"
+            + "<select id=\"type\" name=\"type\"><option value=\"CHECKING\">CHECKING</option><option value=\"SAVINGS\">SAVINGS</option></select>"
+            + "<p><b>A minimum of $100.00 must be deposited into this account at time of opening. "
+            + "Please choose an existing account to transfer funds into the new account.</b></p>"
+            + accountSelect("fromAccountId", accounts, -1)
+            + "<div><input type=\"button\" class=\"button\" value=\"Open New Account\" onclick=\"this.form.submit()\"></div>"
+            + "</form></div>" + hiddenError();
+    }
+
+    static String openAccountResult(Account created) {
+        return "<div id=\"openAccountResult\"><h1 class=\"title\">Account Opened!</h1>"
+            + "<p>Congratulations, your account is now open.</p>"
+            + "<p><b>Your new account number:</b> <a id=\"newAccountId\" href=\"activity.htm?id=" + created.getId() + "\">"
+            + created.getId() + "</a></p></div>" + hiddenError();
+    }
+
+    static String loanForm(List<Account> accounts, String error) {
+        return "<div id=\"requestLoanForm\"><h1 class=\"title\">Apply for a Loan</h1>"
+            + (error != null ? "<p class=\"error\">" + esc(error) + "</p>" : "")
+            + "<form id=\"requestLoan\" method=\"post\" action=\"requestloan.htm\"><table>"
+            + "<tr><td>Loan Amount:</td><td>$<input id=\"amount\" name=\"amount\" type=\"text\"></td></tr>"
+            + "<tr><td>Down Payment:</td><td>$<input id=\"downPayment\" name=\"downPayment\" type=\"text\"></td></tr>"
+            + "<tr><td>From account #:</td><td>" + accountSelect("fromAccountId", accounts, -1) + "</td></tr>"
+            + "<tr><td></td><td><input type=\"submit\" class=\"button\" value=\"Apply Now\"></td></tr>"
+            + "</table></form></div>" + hiddenError();
+    }
+
+    static String loanResult(LoanResult result) {
+        StringBuilder html = new StringBuilder("<div id=\"requestLoanResult\"><h1 class=\"title\">Loan Request Processed</h1><table>")
+            .append("<tr><td>Loan Provider:</td><td id=\"loanProviderName\">Wealth Securities Dynamic Loans (WSDL)</td></tr>")
+            .append("<tr><td>Date:</td><td id=\"responseDate\">").append(result.date().format(DATE)).append("</td></tr>")
+            .append("<tr><td>Status:</td><td id=\"loanStatus\">").append(result.approved() ? "Approved" : "Denied").append("</td></tr></table>");
+        if (result.approved()) {
+            html.append("<div id=\"loanRequestApproved\"><p>").append(esc(result.message())).append("</p>")
+                .append("<p><b>Your new account number:</b> <a id=\"newAccountId\" href=\"activity.htm?id=")
+                .append(result.newAccountId()).append("\">").append(result.newAccountId()).append("</a></p></div>");
+        } else {
+            html.append("<div id=\"loanRequestDenied\"><p class=\"error\">").append(esc(result.message())).append("</p></div>");
+        }
+        return html.append("</div>").append(hiddenError()).toString();
+    }
+
+    static String contactForm(Map<String, String> values, Map<String, String> errors) {
+        StringBuilder html = new StringBuilder("<h1 class=\"title\">Customer Care</h1>")
+            .append("<p>Email support is available by filling out the following form.</p>")
+            .append("<form id=\"contactForm\" method=\"post\" action=\"contact.htm\"><table>");
+        for (String field : List.of("name", "email", "phone")) {
+            html.append("<tr><td>").append(Character.toUpperCase(field.charAt(0))).append(field.substring(1)).append(":</td>")
+                .append("<td><input id=\"").append(field).append("\" name=\"").append(field).append("\" value=\"")
+                .append(esc(values.getOrDefault(field, ""))).append("\"></td><td>");
+            if (errors.containsKey(field)) {
+                html.append("<span id=\"").append(field).append(".errors\" class=\"error\">").append(esc(errors.get(field))).append("</span>");
+            }
+            html.append("</td></tr>");
+        }
+        html.append("<tr><td>Message:</td><td><textarea id=\"message\" name=\"message\">").append(esc(values.getOrDefault("message", "")))
+            .append("</textarea></td><td>");
+        if (errors.containsKey("message")) {
+            html.append("<span id=\"message.errors\" class=\"error\">").append(esc(errors.get("message"))).append("</span>");
+        }
+        return html.append("</td></tr><tr><td></td><td><input type=\"submit\" class=\"button\" value=\"Send to Customer Care\"></td></tr>")
+            .append("</table></form>").toString();
+    }
+
+    static String contactThanks(String name) {
+        return "<h1 class=\"title\">Customer Care</h1><p>Thank you " + esc(name) + "</p>"
+            + "<p>A Customer Care Representative will be contacting you.</p>";
+    }
+
+    private static String accountSelect(String id, List<Account> accounts, int selected) {
+        StringBuilder html = new StringBuilder("<select id=\"").append(id).append("\" name=\"").append(id).append("\" class=\"input\">");
+        for (Account account : accounts) {
+            html.append("<option value=\"").append(account.getId()).append("\"")
+                .append(account.getId() == selected ? " selected" : "").append(">").append(account.getId()).append("</option>");
+        }
+        return html.append("</select>").toString();
+    }
+
+    static String money(BigDecimal amount) {
+        BigDecimal scaled = amount.setScale(2, java.math.RoundingMode.HALF_UP);
+        return scaled.signum() < 0 ? "-$" + scaled.negate().toPlainString() : "$" + scaled.toPlainString();
+    }
+
+    static String esc(String value) {
+        if (value == null) return "";
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -4,19 +4,19 @@ import com.fintech.pages.AccountPage;
 import com.fintech.pages.LoginPage;
 import com.fintech.pages.TransferPage;
 import com.fintech.pages.TransactionHistoryPage;
+import com.fintech.pages.TransactionHistoryPage.Transaction;
+import com.fintech.utils.ConfigReader;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import com.fintech.utils.TestDataProvider;
+import com.fintech.dataproviders.ExcelDataProviders;
 
 import java.util.stream.Collectors;
 
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -24,16 +24,15 @@ import java.util.List;
 
 public class AccountTests extends BaseTest {
 
-    private WebDriverWait wait;
-
     public void loginAsJohn() {
-        LoginPage login = new LoginPage(driver);
-        wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        if (loginWithSessionCookie("john", "demo")) return;
+
+        LoginPage login = new LoginPage(getDriver());
 
         login.open(); // uses retry logic, fallback navigation, and diagnostics
 
-        wait.until(ExpectedConditions.titleContains("ParaBank"));
-        wait.until(ExpectedConditions.presenceOfElementLocated(By.name("username")));
+        getWait().until(ExpectedConditions.titleContains("ParaBank"));
+        getWait().until(ExpectedConditions.presenceOfElementLocated(By.name("username")));
 
         if (!login.isLoaded()) {
             throw new AssertionError("Login page not loaded");
@@ -44,26 +43,26 @@ public class AccountTests extends BaseTest {
         login.clickLogin();
         
         safeSleep(500);
-        if (driver.getCurrentUrl().contains("login.htm") || driver.getTitle().contains("Error")) {
+        if (getDriver().getCurrentUrl().contains("login.htm") || getDriver().getTitle().contains("Error")) {
             throw new AssertionError("❌ Login failed — redirected to error page");
         }
 
     }
     private void openAccount(AccountPage ap, String type) {
         ap.openAccountByName(type);
-        test.info("Opened account: " + type);
+        getTest().info("Opened account: " + type);
     }
 
     @Test
     public void testCheckingAccountSummary() {
         loginAsJohn();
         System.out.println("🔍 Starting test: testCheckingAccountSummary");
-        System.out.println("Current URL: " + driver.getCurrentUrl());
-        System.out.println("Page title: " + driver.getTitle());
-        AccountPage ap = new AccountPage(driver);
+        System.out.println("Current URL: " + getDriver().getCurrentUrl());
+        System.out.println("Page title: " + getDriver().getTitle());
+        AccountPage ap = new AccountPage(getDriver());
 
      // ✅ Wait for account table to render
-     wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("#accountTable tbody tr")));
+     getWait().until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("#accountTable tbody tr")));
 
      List<String> accounts = ap.getAccountNames();
      if (accounts.isEmpty()) {
@@ -73,7 +72,7 @@ public class AccountTests extends BaseTest {
 
      if (accounts.isEmpty()) {
          captureScreenshot("AccountListEmpty_CheckingSummary");
-         System.out.println("🔍 Page source:\n" + driver.getPageSource());
+         savePageSource("PageSource_" + getTest().getName());
          throw new AssertionError("❌ No accounts found after login");
      }
 
@@ -82,21 +81,21 @@ public class AccountTests extends BaseTest {
 
 
         Assert.assertTrue(ap.isBalanceVisible(), "Balance should be visible");
-        test.pass("Checking account summary validated");
+        getTest().pass("Checking account summary validated");
     }
 
     @Test
     public void testSavingsAccountSummary() {
-        test = extent.createTest("Savings Account Summary");
+        createTest("Savings Account Summary");
         loginAsJohn();
-        AccountPage ap = new AccountPage(driver);
+        AccountPage ap = new AccountPage(getDriver());
         List<String> accounts = ap.getAccountNames();
         System.out.println("Available accounts: " + accounts); // ✅ Add this here
 
 
         if (accounts.isEmpty()) {
         	captureScreenshot("AccountListEmpty_SavingsSummary");
-            System.out.println("🔍 Page source:\n" + driver.getPageSource());
+            savePageSource("PageSource_" + getTest().getName());
             throw new AssertionError("❌ No accounts found — cannot proceed with summary validation");
         }
 
@@ -110,24 +109,24 @@ public class AccountTests extends BaseTest {
 
         // ✅ Final validation and reporting
         Assert.assertTrue(ap.isBalanceVisible(), "Balance should be visible");
-        test.pass("Savings account summary validated");
+        getTest().pass("Savings account summary validated");
     }
 
 
     @Test
     public void testBalanceUpdateAfterTransaction() {
         loginAsJohn();
-        AccountPage ap = new AccountPage(driver);
+        AccountPage ap = new AccountPage(getDriver());
 
         // ✅ Ensure at least two accounts exist
-        ap.ensureTwoAccounts();
+        ensureTwoAccounts(ap);
 
         // 🔁 Reopen TransferPage after account creation to refresh dropdown
-        TransferPage tp = new TransferPage(driver);
+        TransferPage tp = new TransferPage(getDriver());
         tp.open();
 
         // 🔍 Step 1: Capture balance before transaction
-        double before = ap.getBalance("13344");
+        double before = balanceOf(ap, "13344");
         System.out.println("✅ Balance before transaction: $" + before);
 
         // 🔍 Step 2: Detect destination account
@@ -153,24 +152,24 @@ public class AccountTests extends BaseTest {
 
         // 🔍 Step 4: Confirm transfer success
         System.out.println("🔍 Transfer confirmed: " + tp.isTransferConfirmed());
-        System.out.println("🔍 Current URL after transfer: " + driver.getCurrentUrl());
+        System.out.println("🔍 Current URL after transfer: " + getDriver().getCurrentUrl());
 
         if (!tp.isTransferConfirmed()) {
         	captureScreenshot("TransferFailed");
-            System.out.println("🔍 Transfer page source:\n" + driver.getPageSource());
+            savePageSource("TransferFailed");
             throw new AssertionError("❌ Transfer was not confirmed — no success message");
         }
 
-        if (driver.getCurrentUrl().contains("login.htm") || driver.getTitle().contains("Error")) {
-        	captureScreenshot("SessionExpired_" + test.getModel().getName());
+        if (getDriver().getCurrentUrl().contains("login.htm") || getDriver().getTitle().contains("Error")) {
+        	captureScreenshot("SessionExpired_" + getTest().getName());
             throw new AssertionError("❌ Session expired or backend error");
         }
 
         // 🔄 Step 5: Reload account overview
-        driver.get("https://parabank.parasoft.com/parabank/overview.htm");
+        getDriver().get(ConfigReader.pageUrl("overview.htm"));
         safeSleep(1000);
 
-        if (driver.getCurrentUrl().contains("login.htm") || driver.getTitle().contains("Error")) {
+        if (getDriver().getCurrentUrl().contains("login.htm") || getDriver().getTitle().contains("Error")) {
         	captureScreenshot("SessionExpired_BalanceUpdate");
             throw new AssertionError("❌ Session expired — cannot reload account list");
         }
@@ -193,15 +192,15 @@ public class AccountTests extends BaseTest {
 
         if (refreshedAccountIds.isEmpty()) {
         	captureScreenshot("AccountListEmpty_BalanceUpdate");
-            System.out.println("🔍 Page source:\n" + driver.getPageSource());
+            savePageSource("PageSource_" + getTest().getName());
             throw new AssertionError("❌ No accounts found — cannot proceed with balance update test");
         }
 
         // 🔍 Step 7: Open source account
         openAccount(ap, "13344");
-        System.out.println("🔍 Current URL: " + driver.getCurrentUrl());
+        System.out.println("🔍 Current URL: " + getDriver().getCurrentUrl());
 
-        if (!driver.getCurrentUrl().contains("activity.htm?id=13344")) {
+        if (!getDriver().getCurrentUrl().contains("activity.htm?id=13344")) {
         	captureScreenshot("WrongAccountPage_BalanceCheck");
             throw new AssertionError("❌ Not on expected account page for 13344");
         }
@@ -217,13 +216,13 @@ public class AccountTests extends BaseTest {
 
         // ✅ Step 9: Assert balance update with precision tolerance
         Assert.assertEquals(after, before - 100.00, 0.01, "❌ Balance not updated correctly");
-        test.pass("✅ Balance update after transaction validated");
+        getTest().pass("✅ Balance update after transaction validated");
     }
 
     @Test
     public void testFullTransactionHistory() {
         loginAsJohn();
-        AccountPage ap = new AccountPage(driver);
+        AccountPage ap = new AccountPage(getDriver());
         List<String> accounts = ap.getAccountNames();
         System.out.println("Available accounts: " + accounts);
 
@@ -232,14 +231,14 @@ public class AccountTests extends BaseTest {
 
         Assert.assertTrue(ap.isTransactionHistoryLoaded(), "Transaction history page did not load correctly.");
 
-        TransactionHistoryPage th = new TransactionHistoryPage(driver);
+        TransactionHistoryPage th = new TransactionHistoryPage(getDriver());
         Assert.assertTrue(th.isLoaded(), "Transaction history should be visible");
 
         // 🔧 NEW: Select account and click "Find Transactions"
         th.selectAccount("13344");
         th.clickFindTransactions();
         
-        List<WebElement> tablerows = driver.findElements(By.cssSelector("#transactionBody tr"));
+        List<WebElement> tablerows = getDriver().findElements(By.cssSelector("#transactionBody tr"));
         if (tablerows.isEmpty()) {
         	captureScreenshot("TransactionTableEmpty_13344");
             System.out.println("⚠️ No transaction rows found for account: 13344");
@@ -254,26 +253,28 @@ public class AccountTests extends BaseTest {
         if (rowTexts.isEmpty()) {
             System.out.println("⚠️ No transactions found — treating UI confirmation as success");
             captureScreenshot("TransactionRowsMissing_13344");
-            test.pass("✅ Transaction history page loaded, but no rows found");
+            getTest().pass("✅ Transaction history page loaded, but no rows found");
         } else {
             System.out.println("✅ Transactions found: " + rowTexts.size());
-            test.pass("✅ Full transaction history validated");
+            getTest().pass("✅ Full transaction history validated");
         }
     }
     
     @Test
     public void testTransactionDetailsFormat() {
         loginAsJohn();
-        AccountPage ap = new AccountPage(driver);
+        AccountPage ap = new AccountPage(getDriver());
         openAccount(ap, "13344");
         ap.goToTransactionHistory();
 
         Assert.assertTrue(ap.isTransactionHistoryLoaded(), "Transaction history page did not load correctly.");
-        TransactionHistoryPage th = new TransactionHistoryPage(driver);
+        TransactionHistoryPage th = new TransactionHistoryPage(getDriver());
 
-        List<String> dates = th.getDates();
-        List<String> amounts = th.getAmounts();
-        List<String> types = th.getTypes();
+        // One table read; every column comes from the same rows
+        List<Transaction> transactions = th.getTransactions();
+        List<String> dates = transactions.stream().map(Transaction::getDateText).toList();
+        List<String> amounts = transactions.stream().map(Transaction::getAmountText).toList();
+        List<String> types = transactions.stream().map(Transaction::getType).toList();
 
         System.out.println("🔍 Raw Dates: " + dates);
         System.out.println("🔍 Raw Amounts: " + amounts);
@@ -292,20 +293,20 @@ public class AccountTests extends BaseTest {
             .allMatch(t -> t.equals("debit") || t.equals("credit"));
         Assert.assertTrue(allTypesValid, "❌ Invalid transaction type");
 
-        test.pass("✅ Transaction details format validated");
+        getTest().pass("✅ Transaction details format validated");
     }
 
 
     @Test
     public void testTransactionFilterByDateRange() {
         loginAsJohn();
-        AccountPage ap = new AccountPage(driver);
+        AccountPage ap = new AccountPage(getDriver());
         openAccount(ap, "13344");
         ap.goToTransactionHistory();
         ap.filterByDate("09/01/2025", "09/30/2025");        
         Assert.assertTrue(ap.isTransactionHistoryLoaded(), "Filtered transaction table did not load correctly.");        
-        wait.until(ExpectedConditions.presenceOfElementLocated(By.id("transactionTable")));
-        TransactionHistoryPage th = new TransactionHistoryPage(driver);
+        getWait().until(ExpectedConditions.presenceOfElementLocated(By.id("transactionTable")));
+        TransactionHistoryPage th = new TransactionHistoryPage(getDriver());
         List<String> dates = th.getDates();
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd/yyyy");
@@ -322,35 +323,35 @@ public class AccountTests extends BaseTest {
         });
 
         Assert.assertTrue(allDatesValid, "Date filter failed");
-        test.pass("Transaction filter by date range validated");
+        getTest().pass("Transaction filter by date range validated");
     }
     @Test
     public void testTransactionSortingByDateAndAmount() {
         loginAsJohn();
-        AccountPage ap = new AccountPage(driver);
+        AccountPage ap = new AccountPage(getDriver());
         openAccount(ap, "13344");
         ap.goToTransactionHistory();
         Assert.assertTrue(ap.isTransactionHistoryLoaded(), "Transaction history page did not load correctly.");
-        TransactionHistoryPage th = new TransactionHistoryPage(driver);
+        TransactionHistoryPage th = new TransactionHistoryPage(getDriver());
 
         // Sort by Date Ascending
         ap.sortBy("Date", "Ascending");
-        List<String> dates = th.getDates();
+        List<String> dates = th.getTransactions().stream().map(Transaction::getDateText).toList();
         List<String> sortedDates = dates.stream().sorted().toList();
         Assert.assertEquals(dates, sortedDates, "Date sorting failed");
 
         // Sort by Amount Descending
         ap.sortBy("Amount", "Descending");
-        List<String> amounts = th.getAmounts();
+        List<String> amounts = th.getTransactions().stream().map(Transaction::getAmountText).toList();
         List<Double> numericAmounts = amounts.stream()
             .map(a -> Double.parseDouble(a.replaceAll("[^\\d.]", "")))
             .toList();
         List<Double> sortedAmounts = numericAmounts.stream().sorted((a, b) -> Double.compare(b, a)).toList();
         Assert.assertEquals(numericAmounts, sortedAmounts, "Amount sorting failed");
 
-        test.pass("Transaction sorting by date and amount validated");
+        getTest().pass("Transaction sorting by date and amount validated");
     }
-    @Test(dataProvider = "accountFunctionalityData", dataProviderClass = TestDataProvider.class)
+    @Test(dataProvider = "accountFunctionalityData", dataProviderClass = ExcelDataProviders.class)
     public void testAccountFunctionality(String scenario, String source, String destination, Double amount,
                                          String fromDate, String toDate, String sortBy, String sortOrder,
                                          Double expectedBalance, Boolean expectVisible) {
@@ -358,15 +359,15 @@ public class AccountTests extends BaseTest {
     	System.out.println("🔍 Running test for: " + scenario);
   	
         loginAsJohn();
-        AccountPage ap = new AccountPage(driver);
+        AccountPage ap = new AccountPage(getDriver());
 
         switch (scenario.trim().toLowerCase()) {
             case "balance update after transfer" -> {
-                TransferPage tp = new TransferPage(driver);
+                TransferPage tp = new TransferPage(getDriver());
                 tp.open();
-                double before = ap.getBalance(source);
+                double before = balanceOf(ap, source);
                 tp.transferFunds(source, destination, amount);
-                driver.get("https://parabank.parasoft.com/parabank/overview.htm");
+                getDriver().get(ConfigReader.pageUrl("overview.htm"));
                 safeSleep(1000);
                 openAccount(ap, source);
             
@@ -376,13 +377,13 @@ public class AccountTests extends BaseTest {
                 }
                 
                 // ✅ Confirm correct URL
-                if (!driver.getCurrentUrl().contains("activity.htm?id=" + source)) {
+                if (!getDriver().getCurrentUrl().contains("activity.htm?id=" + source)) {
                 	captureScreenshot("WrongAccountPage_BalanceCheck_" + source);
                     throw new AssertionError("❌ Not on expected account page for " + source);
                 }
                 
                 // ✅ Confirm heading text
-                WebElement heading = driver.findElement(By.cssSelector("h1.title"));
+                WebElement heading = getDriver().findElement(By.cssSelector("h1.title"));
                 Assert.assertTrue(heading.getText().contains("Account"), "❌ Not on account details page");
              
                 // ✅ Proceed with balance check
@@ -394,7 +395,7 @@ public class AccountTests extends BaseTest {
                 openAccount(ap, source);
                 ap.goToTransactionHistory();
                 ap.filterByDate(fromDate, toDate);
-                TransactionHistoryPage th = new TransactionHistoryPage(driver);
+                TransactionHistoryPage th = new TransactionHistoryPage(getDriver());
                 List<String> dates = th.getDates();
                 DateTimeFormatter fmt = DateTimeFormatter.ofPattern("MM/dd/yyyy");
                 LocalDate from = LocalDate.parse(fromDate, fmt);
@@ -414,17 +415,18 @@ public class AccountTests extends BaseTest {
                 openAccount(ap, source);
                 ap.goToTransactionHistory();
 
-                TransactionHistoryPage thSort = new TransactionHistoryPage(driver);
+                TransactionHistoryPage thSort = new TransactionHistoryPage(getDriver());
                 thSort.logTableHeaders(); // ✅ Add this line to inspect headers
 
                 ap.sortBy(sortBy, sortOrder);
 
                 if (sortBy.equalsIgnoreCase("Date")) {
-                    List<String> dateList = thSort.getDates();
+                    List<String> dateList = thSort.getTransactions().stream().map(Transaction::getDateText).toList();
                     List<String> sorted = dateList.stream().sorted().toList();
                     Assert.assertEquals(dateList, sorted, "❌ Date sorting failed");
                 } else if (sortBy.equalsIgnoreCase("Amount")) {
-                    List<Double> amounts = thSort.getAmounts().stream()
+                    List<Double> amounts = thSort.getTransactions().stream()
+                        .map(Transaction::getAmountText)
                         .map(a -> Double.parseDouble(a.replaceAll("[^\\d.]", "")))
                         .toList();
                     List<Double> sorted = amounts.stream().sorted((a, b) -> Double.compare(b, a)).toList();
@@ -441,16 +443,16 @@ public class AccountTests extends BaseTest {
                 }
                 
              // ✅ Wait for correct URL before asserting
-                wait.until(ExpectedConditions.urlContains("activity.htm?id=" + source));
+                getWait().until(ExpectedConditions.urlContains("activity.htm?id=" + source));
                 
              // ✅ Confirm correct URL
-                if (!driver.getCurrentUrl().contains("activity.htm?id=" + source)) {
+                if (!getDriver().getCurrentUrl().contains("activity.htm?id=" + source)) {
                 	captureScreenshot("WrongAccountPage_Summary_" + source);
                     throw new AssertionError("❌ Not on expected account page for " + source);
                 }
 
                 // ✅ Confirm heading text
-                WebElement heading = driver.findElement(By.cssSelector("h1.title"));
+                WebElement heading = getDriver().findElement(By.cssSelector("h1.title"));
                 Assert.assertTrue(heading.getText().contains("Account"), "❌ Not on account details page");
 
                 // ✅ Proceed with balance visibility and value check
@@ -464,12 +466,12 @@ public class AccountTests extends BaseTest {
             default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
         }
 
-        test.pass("✅ Scenario passed: " + scenario);
+        getTest().pass("✅ Scenario passed: " + scenario);
     }
 
     @AfterMethod
     public void resetBrowser() {
-        driver.get("https://parabank.parasoft.com/parabank/index.htm");
+        getDriver().get(ConfigReader.pageUrl("index.htm"));
         safeSleep(1000);
     }
 }
@@ -1,10 +1,25 @@
 package com.fintech.tests;
 
-import com.aventstack.extentreports.*;
-import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.fintech.dataproviders.JsonDataProvider;
+import com.fintech.utils.DeadlineWait;
 import com.fintech.utils.DriverFactory;
+import com.fintech.utils.LocatorRanking;
+import com.fintech.utils.NavigationTiming;
+import com.fintech.utils.ArtifactStore;
+import com.fintech.utils.CommandStats;
 import com.fintech.utils.ConfigReader;
+import com.fintech.utils.ParaBankApiClient;
+import com.fintech.utils.ReportManager;
+import com.fintech.utils.ScreenshotService;
+import com.fintech.utils.SessionCookieLogin;
+import com.fintech.utils.SleepLedger;
+import com.fintech.utils.SuiteMetrics;
+import com.fintech.utils.TestDeadline;
+import com.fintech.utils.TestDataCache;
+import com.fintech.utils.Tracer;
+import com.fintech.pages.AccountPage;
 import com.fintech.pages.LoginPage;
+import com.fintech.stub.ParaBankStubServer;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.*;
 import org.testng.*;
@@ -13,186 +28,402 @@ import org.testng.annotations.*;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.math.BigDecimal;
 import java.time.*;
-import java.time.format.DateTimeFormatter;
-import org.apache.commons.io.FileUtils;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.awt.Desktop;
 
 public class BaseTest {
-    protected static ExtentReports extent;
-    protected ExtentTest test;
-    protected static final String BASE_URL = "https://parabank.parasoft.com/parabank/index.htm";
-    protected WebDriverWait wait;
-    protected String browserUsed;
-    private boolean loggedIn = false;
-
-    // ✅ Thread-safe driver reference
-    private static final ThreadLocal<WebDriver> threadDriver = new ThreadLocal<>();
-    protected WebDriver driver;
+    private static ParaBankStubServer stubServer;
+    private static final Map<String, Integer> customerIds = new ConcurrentHashMap<>();
 
-    // 🔢 Browser-specific test counters
-    protected static int chromeCount = 0;
-    protected static int edgeCount = 0;
+    // ✅ Thread-confined per-test state (safe for parallel="methods" / "classes")
+    private static final ThreadLocal<WebDriver> threadDriver = new ThreadLocal<>();
+    private static final ThreadLocal<ReportManager.TestHandle> threadTest = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriverWait> threadWait = new ThreadLocal<>();
+    private static final ThreadLocal<String> threadBrowser = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> loggedIn = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<Method> threadMethod = new ThreadLocal<>();
+    private static final ThreadLocal<Tracer.Span> testSpan = new ThreadLocal<>();
+    private static final ThreadLocal<Tracer.Span> phaseSpan = new ThreadLocal<>();
 
     protected WebDriver getDriver() {
         return threadDriver.get();
     }
 
+    protected ReportManager.TestHandle getTest() {
+        return threadTest.get();
+    }
+
+    protected WebDriverWait getWait() {
+        return threadWait.get();
+    }
+
+    protected String getBrowser() {
+        String browser = threadBrowser.get();
+        return browser != null ? browser : ConfigReader.get("browser");
+    }
+
+    // 🔹 Names the current thread's report entry; only creates one when no test is running (one entry per invocation)
+    protected ReportManager.TestHandle createTest(String name) {
+        ReportManager.TestHandle current = threadTest.get();
+        if (current != null) return current.rename(name);
+
+        ReportManager.TestHandle created = ReportManager.createTest(name);
+        threadTest.set(created);
+        return created;
+    }
+
     @Parameters("browser")
     @BeforeMethod(alwaysRun = true)
-    public void setupMethod(@Optional("chrome") String browserParam) {
-        browserUsed = (browserParam != null && !browserParam.isEmpty())
+    public void setupMethod(@Optional("chrome") String browserParam, Method method) {
+        // 🧭 Trace: test → setup / run / teardown; page-object spans and actions nest under run
+        testSpan.set(Tracer.span(method.getDeclaringClass().getSimpleName() + "." + method.getName(), "test"));
+        phaseSpan.set(Tracer.span("setup", "lifecycle"));
+
+        String browser = (browserParam != null && !browserParam.isEmpty())
                 ? browserParam
                 : ConfigReader.get("browser");
+        threadBrowser.set(browser);
+        SuiteMetrics.increment("parabank_tests_started_total", "browser", browser.toLowerCase());
 
-        WebDriver localDriver = DriverFactory.getDriver(browserUsed);
-        threadDriver.set(localDriver);
-        driver = localDriver;
+        WebDriver driver = DriverFactory.getDriver(browser);
+        threadDriver.set(driver);
         driver.manage().window().maximize();
         driver.manage().deleteAllCookies();
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(40));
-        wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-        loggedIn = false;
+        threadWait.set(new DeadlineWait(driver, Duration.ofSeconds(15)));
+        loggedIn.set(false);
+        threadMethod.set(method);
+        SleepLedger.begin();
+        NavigationTiming.begin();
+
+        startTest(method);
+        ReportManager.TestHandle test = getTest();
+        Set<Path> attached = ConcurrentHashMap.newKeySet(); // the same error page captured twice is stored and linked once
+        ScreenshotService.attachTo(path -> {
+            if (attached.add(path)) test.addScreenCaptureFromPath(path.toString());
+        });
+        TestDeadline.start(method.getDeclaringClass().getSimpleName() + "." + method.getName(), TestDeadline.budgetFor(groupsOf(method)));
+        CommandStats.begin(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        nextPhase("run");
+    }
+
+    private static String resultLabel(ITestResult result) {
+        return switch (result.getStatus()) {
+            case ITestResult.SUCCESS -> "passed";
+            case ITestResult.FAILURE -> "failed";
+            case ITestResult.SKIP -> "skipped";
+            default -> "other";
+        };
+    }
+
+    private static void nextPhase(String phase) {
+        Tracer.closePageSpans();
+        if (phaseSpan.get() != null) phaseSpan.get().close();
+        phaseSpan.set(phase != null ? Tracer.span(phase, "lifecycle") : null);
+    }
+
+    private static String[] groupsOf(Method method) {
+        Set<String> groups = new LinkedHashSet<>();
+        Test methodTest = method.getAnnotation(Test.class);
+        if (methodTest != null) groups.addAll(Arrays.asList(methodTest.groups()));
+        Test classTest = method.getDeclaringClass().getAnnotation(Test.class);
+        if (classTest != null) groups.addAll(Arrays.asList(classTest.groups()));
+        return groups.toArray(String[]::new);
+    }
+
+    // 📈 metrics.enabled=true: live Prometheus endpoint for the whole run
+    @BeforeSuite(alwaysRun = true)
+    public void startMetrics() {
+        SuiteMetrics.startServer();
     }
 
     @BeforeSuite(alwaysRun = true)
     public void initReport() {
-        ExtentSparkReporter spark = new ExtentSparkReporter("target/ExtentReport.html");
-        extent = new ExtentReports();
-        extent.attachReporter(spark);
-        extent.setSystemInfo("Tester", "Vishnu");
-        extent.setSystemInfo("Environment", "QA");
+        ReportManager.start(ConfigReader.get("report.path", "target/ExtentReport.html"));
+        ReportManager.setSystemInfo("Tester", "Vishnu");
+        ReportManager.setSystemInfo("Environment", "QA");
+    }
+
+    // 🏦 Hermetic mode: serve ParaBank from an in-process stand-in instead of the public demo site
+    @BeforeSuite(alwaysRun = true, dependsOnMethods = "initReport")
+    public void startStubServer() throws IOException {
+        if (!Boolean.parseBoolean(ConfigReader.get("stub.enabled", "false"))) return;
+
+        stubServer = ParaBankStubServer.start(Integer.parseInt(ConfigReader.get("stub.port", "0")));
+        ConfigReader.set("baseUrl", stubServer.baseUrl() + "index.htm");
+        ReportManager.setSystemInfo("Environment", "Stub " + stubServer.baseUrl());
+    }
+
+    @BeforeSuite(alwaysRun = true)
+    public void preloadTestData() {
+        if (!Boolean.parseBoolean(ConfigReader.get("dataCache.preload", "true"))) return;
+        TestDataCache.preload(JsonDataProvider.class);
+    }
+
+    @Parameters("browsers")
+    @BeforeSuite(alwaysRun = true, dependsOnMethods = "initReport")
+    public void warmUpDrivers(@Optional("") String browsersParam) {
+        Set<String> browsers = new LinkedHashSet<>();
+        String configured = browsersParam.isEmpty() ? ConfigReader.get("browser") : browsersParam;
+        for (String browser : configured.split(",")) {
+            if (!browser.isBlank()) browsers.add(browser.trim().toLowerCase());
+        }
+
+        int sessions = Integer.parseInt(ConfigReader.get("driverPool.warmup", "0"));
+        System.out.println("🔥 Warming up " + sessions + " session(s) per browser: " + browsers);
+        DriverFactory.warmUp(browsers, sessions);
     }
 
     @BeforeClass(alwaysRun = true)
     public void beforeClassLog() {
-        System.out.println("📘 Starting test class: " + this.getClass().getSimpleName() + " on " + browserUsed);
+        System.out.println("📘 Starting test class: " + this.getClass().getSimpleName() + " on " + getBrowser());
     }
 
-    @BeforeMethod(alwaysRun = true)
-    public void startTest(Method method) {
-        test = extent.createTest(method.getDeclaringClass().getSimpleName() + "." + method.getName());
-        test.assignCategory(browserUsed);
-        test.info("🔍 Browser: " + browserUsed);
+    private void startTest(Method method) {
+        ReportManager.TestHandle test = createTest(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        test.assignCategory(getBrowser());
+        test.info("🔍 Browser: " + getBrowser());
         test.info("🔍 Test: " + method.getDeclaringClass().getSimpleName() + "." + method.getName());
     }
 
     @AfterMethod(alwaysRun = true)
     public void afterMethod(ITestResult result) {
-        if ("chrome".equalsIgnoreCase(browserUsed)) {
-            chromeCount++;
-        } else if ("edge".equalsIgnoreCase(browserUsed)) {
-            edgeCount++;
+        nextPhase("teardown");
+        String browserUsed = getBrowser();
+
+        List<SleepLedger.Entry> sleeps = SleepLedger.end(result.getTestClass().getRealClass().getSimpleName() + "." + result.getName());
+        ReportManager.TestHandle test = getTest();
+        if (test != null && !sleeps.isEmpty()) {
+            test.info("💤 Fixed sleeps: " + SleepLedger.totalMillis(sleeps) + " ms → " + SleepLedger.summarize(sleeps));
+        }
+        CommandStats.TestCommands commands = CommandStats.end();
+        if (commands != null && commands.total() > 0) {
+            System.out.print(commands.table());
+            if (test != null) test.info("<pre>" + commands.table() + "</pre>");
         }
 
-        if (result.getStatus() == ITestResult.SUCCESS) {
-            test.pass("Test passed");
-        } else if (result.getStatus() == ITestResult.FAILURE) {
-            test.fail(result.getThrowable());
-            captureScreenshot(result.getName());
-        } else if (result.getStatus() == ITestResult.SKIP) {
-            test.skip("Test skipped");
-            captureScreenshot(result.getName());
+        List<NavigationTiming.Sample> navigations = NavigationTiming.end();
+        if (test != null && !navigations.isEmpty()) {
+            test.info("🚦 Page loads:<br>" + navigations.stream().map(NavigationTiming.Sample::describe).collect(Collectors.joining("<br>")));
+        }
+
+        TestDeadline deadline = TestDeadline.end();
+        if (test != null && deadline != null && result.getStatus() != ITestResult.SUCCESS) {
+            test.info((deadline.wasExhausted() ? "⏱️ Deadline exhausted: " : "⏱️ Deadline: ") + deadline.describe());
+        }
+        SuiteMetrics.increment("parabank_tests_finished_total", "browser", browserUsed.toLowerCase(), "result", resultLabel(result));
+        if (test != null) {
+            if (result.getStatus() == ITestResult.SUCCESS) {
+                test.pass("Test passed");
+            } else if (result.getStatus() == ITestResult.FAILURE) {
+                test.fail(result.getThrowable());
+                captureScreenshot(result.getName());
+            } else if (result.getStatus() == ITestResult.SKIP) {
+                test.skip("Test skipped");
+                captureScreenshot(result.getName());
+            }
         }
 
-        System.out.println("🧹 AfterMethod → driver.quit() called for: " + browserUsed);
-        DriverFactory.quitDriver();
+        System.out.println("🧹 AfterMethod → releasing driver for: " + browserUsed);
+        DriverFactory.releaseDriver();
         threadDriver.remove();
+        threadWait.remove();
+        threadTest.remove();
+        threadBrowser.remove();
+        loggedIn.remove();
+        threadMethod.remove();
+        ScreenshotService.detach();
+
+        nextPhase(null);
+        if (testSpan.get() != null) testSpan.get().close();
+        testSpan.remove();
+        phaseSpan.remove();
     }
 
     @AfterSuite(alwaysRun = true)
     public void finishReport() {
-        System.out.println("✅ Chrome tests executed: " + chromeCount);
-        System.out.println("✅ Edge tests executed: " + edgeCount);
+        System.out.println("✅ Chrome tests executed: " + SuiteMetrics.count("parabank_tests_finished_total", "browser", "chrome"));
+        System.out.println("✅ Edge tests executed: " + SuiteMetrics.count("parabank_tests_finished_total", "browser", "edge"));
+
+        DriverFactory.shutdownPools();
+        SleepLedger.writeReport(Paths.get("target", "sleep-report.txt"));
+        LocatorRanking.save();
+        CommandStats.writeReport(Paths.get("target", "command-report.txt"));
+        NavigationTiming.writeReport(Paths.get("target", "navigation-timing.csv"));
+        Tracer.write(Paths.get(ConfigReader.get("trace.file", "target/trace.json")));
+
+        if (stubServer != null) {
+            stubServer.stop();
+            stubServer = null;
+        }
 
-        if (extent != null) extent.flush();
+        ScreenshotService.awaitWritten(Duration.ofSeconds(30));
+        System.out.println("🗃️ " + ArtifactStore.summary());
+        ReportManager.flush();
+        SuiteMetrics.stopServer();
         try {
-            Desktop.getDesktop().browse(new File("target/ExtentReport.html").toURI());
+            Desktop.getDesktop().browse(new File(ConfigReader.get("report.path", "target/ExtentReport.html")).toURI());
         } catch (Exception ignored) {}
     }
 
     public void loginAsJohn() {
-        if (loggedIn) {
-            System.out.println("🔁 Already logged in — skipping login");
-            return;
-        }
+        try (Tracer.Span span = Tracer.span("loginAsJohn", "login")) {
+            if (loggedIn.get()) {
+                System.out.println("🔁 Already logged in — skipping login");
+                return;
+            }
+            if (loginWithSessionCookie("john", "demo")) return;
 
-        for (int i = 0; i < 3; i++) {
-            try {
-                if (!isSessionActive()) {
-                    test.warning("Session inactive — skipping login");
-                    Assert.assertTrue(true);
+            for (int i = 0; i < 3; i++) {
+                try {
+                    if (!isSessionActive()) {
+                        getTest().warning("Session inactive — skipping login");
+                        Assert.assertTrue(true);
+                        return;
+                    }
+
+                    getDriver().get(ConfigReader.pageUrl("index.htm"));
+                    safeSleep(1000);
+                    WebElement username = new DeadlineWait(getDriver(), Duration.ofSeconds(5))
+                            .until(ExpectedConditions.presenceOfElementLocated(By.name("username")));
+                    username.sendKeys("john");
+                    getDriver().findElement(By.name("password")).sendKeys("demo");
+                    getDriver().findElement(By.cssSelector("input[type='submit']")).click();
+                    loggedIn.set(true);
                     return;
+                } catch (Exception e) {
+                    System.out.println("⚠️ Login retry " + (i + 1) + " failed: " + e.getMessage());
+                    getDriver().navigate().refresh();
+                    safeSleep(1000);
                 }
-
-                driver.get(BASE_URL);
-                safeSleep(1000);
-                WebElement username = new WebDriverWait(driver, Duration.ofSeconds(5))
-                        .until(ExpectedConditions.presenceOfElementLocated(By.name("username")));
-                username.sendKeys("john");
-                driver.findElement(By.name("password")).sendKeys("demo");
-                driver.findElement(By.cssSelector("input[type='submit']")).click();
-                loggedIn = true;
-                return;
-            } catch (Exception e) {
-                System.out.println("⚠️ Login retry " + (i + 1) + " failed: " + e.getMessage());
-                driver.navigate().refresh();
-                safeSleep(1000);
             }
+            captureScreenshot("LoginFailed");
+            Assert.fail("❌ Network issue while navigating to login page");
         }
-        captureScreenshot("LoginFailed");
-        Assert.fail("❌ Network issue while navigating to login page");
+    }
+
+    // 🍪 login.mode=cookie: reuse the worker's JSESSIONID; tests in the "login" group always go through the form
+    protected boolean loginWithSessionCookie(String username, String password) {
+        if (!SessionCookieLogin.isEnabled() || isInGroup("login")) return false;
+
+        boolean reused;
+        try (Tracer.Span span = Tracer.span("cookie login", "login", username)) {
+            reused = SessionCookieLogin.login(getDriver(), username, password);
+        }
+        if (reused) {
+            loggedIn.set(true);
+            if (getTest() != null) getTest().info("🍪 Logged in with cached session cookie");
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isInGroup(String group) {
+        Method method = threadMethod.get();
+        return method != null && Arrays.asList(groupsOf(method)).contains(group);
     }
 
     public void loginAs(String username, String password) {
         if (!isSessionActive()) {
-            test.warning("Session inactive — skipping login");
+            getTest().warning("Session inactive — skipping login");
             Assert.assertTrue(true);
             return;
         }
 
-        driver.get(BASE_URL);
-        LoginPage login = new LoginPage(driver);
+        getDriver().get(ConfigReader.pageUrl("index.htm"));
+        LoginPage login = new LoginPage(getDriver());
         login.enterUsername(username);
         login.enterPassword(password);
         login.clickLogin();
-        wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        threadWait.set(new DeadlineWait(getDriver(), Duration.ofSeconds(15)));
+    }
+
+    // 🔹 REST fast path for arrange/verify steps (setup.api=true); the browser stays on the behavior under test
+    protected ParaBankApiClient api() {
+        return ParaBankApiClient.fromConfig();
+    }
+
+    protected int johnCustomerId() {
+        return customerIds.computeIfAbsent(ConfigReader.baseUrl(), url -> api().login("john", "demo").id());
+    }
+
+    protected AccountPage ensureTwoAccounts(AccountPage accountPage) {
+        if (ParaBankApiClient.isEnabled()) {
+            try {
+                return accountPage.ensureTwoAccountsSafely(api(), johnCustomerId());
+            } catch (RuntimeException e) {
+                System.out.println("⚠️ API account setup failed — falling back to UI: " + e.getMessage());
+            }
+        }
+        return accountPage.ensureTwoAccountsSafely();
+    }
+
+    protected Map<String, BigDecimal> balanceSnapshot(AccountPage accountPage) {
+        if (ParaBankApiClient.isEnabled()) {
+            try {
+                return api().getBalances(johnCustomerId());
+            } catch (RuntimeException e) {
+                System.out.println("⚠️ API balance lookup failed — falling back to UI: " + e.getMessage());
+            }
+        }
+        return accountPage.getBalanceSnapshot();
+    }
+
+    protected double balanceOf(AccountPage accountPage, String accountId) {
+        if (ParaBankApiClient.isEnabled()) {
+            try {
+                return api().getAccount(Integer.parseInt(accountId)).balance().doubleValue();
+            } catch (RuntimeException e) {
+                System.out.println("⚠️ API balance lookup failed — falling back to UI: " + e.getMessage());
+            }
+        }
+        return accountPage.getBalance(accountId);
     }
 
     public void captureScreenshot(String name) {
         if (!isSessionActive()) {
-            test.warning("Screenshot skipped — browser session is inactive");
+            getTest().warning("Screenshot skipped — browser session is inactive");
             return;
         }
 
         try {
-            File screenshotsDir = new File("target/screenshots");
-            if (!screenshotsDir.exists()) screenshotsDir.mkdirs();
-
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            File dest = new File(screenshotsDir, name + "_" + timestamp + ".png");
-            FileUtils.copyFile(screenshot, dest);
-            test.addScreenCaptureFromPath(dest.getAbsolutePath());
-        } catch (IOException | WebDriverException e) {
-            if (test != null) test.warning("Screenshot failed: " + e.getMessage());
+            ScreenshotService.capture(getDriver(), name);
+        } catch (WebDriverException e) {
+            if (getTest() != null) getTest().warning("Screenshot failed: " + e.getMessage());
         }
     }
 
-    protected void safeSleep(int millis) {
+    // 🔹 Gzipped, deduplicated page source in the ArtifactStore, linked from the report instead of dumped to stdout
+    protected void savePageSource(String name) {
         try {
-            Thread.sleep(millis);
-        } catch (InterruptedException ignored) {
-            Thread.currentThread().interrupt();
+            Path file = ArtifactStore.storePageSource(name, getDriver().getPageSource()).toAbsolutePath();
+            System.out.println("📄 Page source saved: " + name + " → " + file);
+            if (getTest() != null) getTest().info("📄 Page source: <a href='" + file.toUri() + "'>" + name + "</a>");
+        } catch (IOException | WebDriverException e) {
+            System.out.println("⚠️ Page source not saved: " + e.getMessage());
         }
     }
 
+    protected void safeSleep(int millis) {
+        SleepLedger.sleep(millis);
+    }
+
     protected boolean isSessionActive() {
         try {
-            driver.getTitle();
+            getDriver().getTitle();
             return true;
         } catch (WebDriverException e) {
-            if (test != null) test.warning("Session inactive — browser may have closed or system shut down");
+            if (getTest() != null) getTest().warning("Session inactive — browser may have closed or system shut down");
             return false;
         }
     }
@@ -0,0 +1,67 @@
+package com.fintech.tests;
+
+import com.fintech.utils.CommandBudgetListener;
+import com.fintech.utils.CommandStats;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.TestNG;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.testng.internal.ExitCode;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+// 🔹 No browser: runs an over-budget test against a fake driver and checks what TestNG itself records
+public class CommandBudgetTests {
+
+    private static final String GROUP = "commandBudgetCheck";
+
+    public static class OverBudget {
+
+        @Test(groups = GROUP)
+        public void issuesTooManyCommands() {
+            CommandStats.begin("OverBudget.issuesTooManyCommands");
+            WebDriver driver = CommandStats.decorate(fakeDriver());
+            for (int i = 0; i < 3; i++) driver.getTitle();
+        }
+
+        @AfterMethod(alwaysRun = true)
+        public void endCommands() {
+            CommandStats.end();
+        }
+    }
+
+    private static WebDriver fakeDriver() {
+        return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(), new Class<?>[] {WebDriver.class},
+            (proxy, method, args) -> method.getName().equals("getTitle") ? "ParaBank" : null);
+    }
+
+    // 🔹 Separate JVM so the inner run's results can't mix with this suite's reporters; TestNG's exit code carries the outcome
+    @Test
+    public void overBudgetTestEndsAsFailure() throws Exception {
+        Path outputDir = Paths.get("target", "command-budget-check");
+        Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                "-DcommandBudget." + GROUP + "=2",
+                "-Dtrace.enabled=false",
+                TestNG.class.getName(),
+                "-listener", CommandBudgetListener.class.getName(),
+                "-d", outputDir.toString(),
+                "-testclass", OverBudget.class.getName())
+            .redirectErrorStream(true)
+            .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        Assert.assertTrue(process.waitFor(2, TimeUnit.MINUTES), "Inner TestNG run did not finish");
+
+        Assert.assertEquals(process.exitValue() & ExitCode.FAILED, ExitCode.FAILED, "Suite status must report the failure:\n" + output);
+        Assert.assertTrue(output.contains("Passes: 0, Failures: 1"), "Over-budget test must be counted as failed:\n" + output);
+        String results = Files.readString(outputDir.resolve("testng-results.xml"));
+        Assert.assertTrue(results.contains("3 WebDriver commands exceeds the budget of 2"), "Unexpected failure:\n" + results);
+    }
+}
@@ -1,7 +1,7 @@
 package com.fintech.tests;
 
 import com.fintech.pages.ContactPage;
-import com.fintech.utils.TestDataProvider;
+import com.fintech.dataproviders.ExcelDataProviders;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -11,19 +11,19 @@ public class ContactTests extends BaseTest {
   @Test
   public void openContactForm() {
     loginAsJohn();
-    ContactPage cp = new ContactPage(driver);
+    ContactPage cp = new ContactPage(getDriver());
     cp.openForm();
     Assert.assertTrue(cp.isLoaded(), "Contact form did not load.");
-    test.pass("Contact form opened successfully.");
+    getTest().pass("Contact form opened successfully.");
   }
 
   // ✅ Scenario 2 & 3: Submit valid and empty forms from Excel
-  @Test(dataProvider = "contactDataExcel", dataProviderClass = TestDataProvider.class)
+  @Test(dataProvider = "contactDataExcel", dataProviderClass = ExcelDataProviders.class)
   public void submitContactForm(String name, String email, Double phone, String message, Boolean expectSuccess) {
       String phoneStr = phone == null ? "" : String.valueOf(phone.longValue());
 
       loginAsJohn();
-      ContactPage cp = new ContactPage(driver);
+      ContactPage cp = new ContactPage(getDriver());
       cp.openForm();
       cp.enterName(name);
       cp.enterEmail(email);
@@ -37,14 +37,14 @@ public class ContactTests extends BaseTest {
           Assert.assertTrue(!cp.getResponse().isEmpty(), "Expected validation message");
       }
 
-      test.pass("Contact form scenario validated for: " + name);
+      getTest().pass("Contact form scenario validated for: " + name);
   }
 
   // ✅ Scenario 4: Verify success message
   @Test
   public void verifyContactSuccessMessage() {
     loginAsJohn();
-    ContactPage cp = new ContactPage(driver);
+    ContactPage cp = new ContactPage(getDriver());
     cp.openForm();
 
     cp.enterName("Vishnu");
@@ -59,7 +59,7 @@ public class ContactTests extends BaseTest {
     boolean isSuccess = msg.contains("thank") || msg.contains("sent") || msg.contains("submitted") || msg.contains("we will") || msg.contains("success");
     Assert.assertTrue(isSuccess, "Success message not shown. Actual: " + msg);
 
-    test.pass("Success message verified: " + msg);
+    getTest().pass("Success message verified: " + msg);
   }
 }
 
@@ -2,7 +2,9 @@ package com.fintech.tests;
 
 import com.fintech.pages.AccountPage;
 import com.fintech.pages.LoanPage;
-import com.fintech.utils.TestDataProvider;
+import com.fintech.utils.ConfigReader;
+import com.fintech.utils.DeadlineWait;
+import com.fintech.dataproviders.ExcelDataProviders;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.*;
 import org.testng.Assert;
@@ -15,27 +17,27 @@ import java.util.stream.Collectors;
 
 public class LoanTests extends BaseTest {
 
-    @Test(priority = 3, dataProvider = "loanDataExcel", dataProviderClass = TestDataProvider.class)
+    @Test(priority = 3, dataProvider = "loanDataExcel", dataProviderClass = ExcelDataProviders.class)
     public void applyLoan(String scenarioLabel, Double amount, Double downPayment, Double accountId, Boolean expectSuccess) {
         String amountStr = amount == null ? "" : String.valueOf(amount.intValue());
         String downPaymentStr = downPayment == null ? "" : String.valueOf(downPayment.intValue());
         String accountIdStr = accountId == null ? "" : String.valueOf(accountId.intValue());
 
-        test = extent.createTest("Loan Scenario → " + scenarioLabel);
-        LoanPage loanPage = new LoanPage(driver);
+        createTest("Loan Scenario → " + scenarioLabel);
+        LoanPage loanPage = new LoanPage(getDriver());
         if (!loanPage.isSessionActive()) {
-            test.skip("Session ended — skipping test");
+            getTest().skip("Session ended — skipping test");
             throw new SkipException("Session ended");
         }
 
-        test.info("Running scenario: " + scenarioLabel);
-        test.info("Amount: " + amountStr + ", DownPayment: " + downPaymentStr + ", AccountId: " + accountIdStr + ", ExpectSuccess: " + expectSuccess);
+        getTest().info("Running scenario: " + scenarioLabel);
+        getTest().info("Amount: " + amountStr + ", DownPayment: " + downPaymentStr + ", AccountId: " + accountIdStr + ", ExpectSuccess: " + expectSuccess);
 
         loginAsJohn();
-        AccountPage ap = new AccountPage(driver);
-        ap.ensureTwoAccounts();
+        AccountPage ap = new AccountPage(getDriver());
+        ensureTwoAccounts(ap);
 
-        LoanPage loan = new LoanPage(driver);
+        LoanPage loan = new LoanPage(getDriver());
         loan.open();
 
         if (!loan.isLoanFormLoaded()) {
@@ -43,8 +45,8 @@ public class LoanTests extends BaseTest {
             Assert.fail("❌ Loan form not loaded — dropdown or fields missing");
         }
 
-        new WebDriverWait(driver, Duration.ofSeconds(10)).until(ExpectedConditions.urlContains("requestloan"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("requestloan"), "❌ Unexpected redirect — not on loan form");
+        new DeadlineWait(getDriver(), Duration.ofSeconds(10)).until(ExpectedConditions.urlContains("requestloan"));
+        Assert.assertTrue(getDriver().getCurrentUrl().contains("requestloan"), "❌ Unexpected redirect — not on loan form");
 
         loan.logAllAccountBalances();
         String actualAccountId = "";
@@ -60,34 +62,34 @@ public class LoanTests extends BaseTest {
                 .collect(Collectors.toList());
             String bal12789 = loan.getBalanceForAccount("12789");
             if (bal12789 == null || bal12789.trim().isEmpty()) {
-                test.warning("⚠️ Balance for 12789 could not be retrieved or is empty.");
+                getTest().warning("⚠️ Balance for 12789 could not be retrieved or is empty.");
             } else {
-                test.info("Balance for 12789: " + bal12789);
+                getTest().info("Balance for 12789: " + bal12789);
             }
 
-            test.info("Valid accounts with usable balance: " + String.join(", ", validAccounts));
+            getTest().info("Valid accounts with usable balance: " + String.join(", ", validAccounts));
 
 
             if (validAccounts.isEmpty()) {
-                test.skip("❌ Skipping test — no account with positive balance available");
+                getTest().skip("❌ Skipping test — no account with positive balance available");
                 throw new SkipException("❌ Skipping test — no account with positive balance");
             }
             if (!validAccounts.contains(accountIdStr)) {
                 String bal = loan.getBalanceForAccount(accountIdStr);
-                test.warning("⚠️ Account " + accountIdStr + " not in valid list. Balance: " + bal);
+                getTest().warning("⚠️ Account " + accountIdStr + " not in valid list. Balance: " + bal);
             }
 
             actualAccountId = (accountIdStr.isEmpty() || !validAccounts.contains(accountIdStr))
                 ? validAccounts.get(0)
                 : accountIdStr;
-            test.info("Using account: " + actualAccountId);
+            getTest().info("Using account: " + actualAccountId);
             String usedBalance = loan.getBalanceForAccount(actualAccountId);
-            test.info("Balance for selected account " + actualAccountId + ": " + usedBalance);
+            getTest().info("Balance for selected account " + actualAccountId + ": " + usedBalance);
 
 
           
             try {
-                Select dropdown = new Select(driver.findElement(By.id("fromAccountId")));
+                Select dropdown = new Select(getDriver().findElement(By.id("fromAccountId")));
                 dropdown.selectByVisibleText(actualAccountId);
                 Assert.assertEquals(dropdown.getFirstSelectedOption().getText(), actualAccountId, "❌ Dropdown selection failed");
             } catch (Exception e) {
@@ -97,15 +99,15 @@ public class LoanTests extends BaseTest {
         }
 
         if (amountStr.isEmpty() || downPaymentStr.isEmpty()) {
-            driver.get("https://parabank.parasoft.com/parabank/requestloan.htm");
+            getDriver().get(ConfigReader.pageUrl("requestloan.htm"));
             safeSleep(1000);
             try {
-                new WebDriverWait(driver, Duration.ofSeconds(5))
+                new DeadlineWait(getDriver(), Duration.ofSeconds(5))
                     .until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(".error, .errorMessage, #loanStatus")));
-                List<WebElement> errors = driver.findElements(By.cssSelector(".error, .errorMessage, #loanStatus"));
+                List<WebElement> errors = getDriver().findElements(By.cssSelector(".error, .errorMessage, #loanStatus"));
                 boolean found = errors.stream().anyMatch(e -> e.isDisplayed() && !e.getText().trim().isEmpty());
                 Assert.assertTrue(found, "Expected validation error");
-                test.pass("Validation error displayed for missing input");
+                getTest().pass("Validation error displayed for missing input");
             } catch (TimeoutException e) {
                 captureScreenshot("MissingInfoValidationFailed");
                 Assert.fail("❌ Validation error not found for missing input");
@@ -119,21 +121,21 @@ public class LoanTests extends BaseTest {
         safeSleep(2000);
 
         try {
-            new WebDriverWait(driver, Duration.ofSeconds(10)).until(ExpectedConditions.visibilityOfElementLocated(By.id("loanStatus")));
+            new DeadlineWait(getDriver(), Duration.ofSeconds(10)).until(ExpectedConditions.visibilityOfElementLocated(By.id("loanStatus")));
         } catch (TimeoutException e) {
             captureScreenshot("loan_status_timeout_" + amountStr);
             Assert.fail("Loan status not visible — possible form failure or locator issue.");
         }
 
         String result = loan.getResult().trim().toLowerCase();
-        test.info("Loan result: " + result);
+        getTest().info("Loan result: " + result);
 
         if (result.isEmpty()) {
             captureScreenshot("loan_result_missing_" + amountStr);
             Assert.fail("Loan result not found after submission.");
         }
-        test.info("Expected approval: " + expectSuccess);
-        test.info("Actual approval: " + loan.isLoanApproved());
+        getTest().info("Expected approval: " + expectSuccess);
+        getTest().info("Actual approval: " + loan.isLoanApproved());
 
 
         try {
@@ -142,55 +144,55 @@ public class LoanTests extends BaseTest {
             } else {
                 Assert.assertTrue(result.contains("denied") || result.contains("error") || result.contains("rejected"), "Expected rejection");
             }
-            test.pass("Matched keyword: " + result);
+            getTest().pass("Matched keyword: " + result);
             captureScreenshot("LoanApproved_" + scenarioLabel.replace(" ", "_") + "_" + amountStr);
         } catch (AssertionError e) {
-            test.fail("Assertion failed for scenario: " + scenarioLabel);
-            test.fail("Matched keyword not found in result: " + result);
+            getTest().fail("Assertion failed for scenario: " + scenarioLabel);
+            getTest().fail("Matched keyword not found in result: " + result);
             captureScreenshot("loan_assertion_failure_" + scenarioLabel.replace(" ", "_") + "_" + amountStr);
             throw e;
         }        
 
         if (scenarioLabel.equalsIgnoreCase("Status Verification")) {
-            driver.get("https://parabank.parasoft.com/parabank/loanstatus.htm");
+            getDriver().get(ConfigReader.pageUrl("loanstatus.htm"));
             try {
-                new WebDriverWait(driver, Duration.ofSeconds(5)).until(ExpectedConditions.visibilityOfElementLocated(By.id("loanStatus")));
-                WebElement status = driver.findElement(By.id("loanStatus"));
+                new DeadlineWait(getDriver(), Duration.ofSeconds(5)).until(ExpectedConditions.visibilityOfElementLocated(By.id("loanStatus")));
+                WebElement status = getDriver().findElement(By.id("loanStatus"));
                 Assert.assertTrue(status.getText().toLowerCase().contains("approved") || status.getText().toLowerCase().contains("denied"), "Expected loan status to be visible");
-                test.pass("Loan status page confirmed: " + status.getText());
+                getTest().pass("Loan status page confirmed: " + status.getText());
             } catch (TimeoutException e) {
                 captureScreenshot("loan_status_page_timeout_" + amountStr);
                 Assert.fail("Loan status page did not load correctly.");
             }
         }
 
-        test.pass("Loan scenario validated");
+        getTest().pass("Loan scenario validated");
     }
 
     @Test(priority = 2)
     public void submitValidLoanRequest() {
-        test = extent.createTest("Submit Valid Loan Request");
-        LoanPage loanPage = new LoanPage(driver);
+        createTest("Submit Valid Loan Request");
+        LoanPage loanPage = new LoanPage(getDriver());
         if (!loanPage.isSessionActive()) {
-            test.skip("Session ended — skipping test");
+            getTest().skip("Session ended — skipping test");
             throw new SkipException("Session ended");
         }
 
         loginAsJohn();
-        AccountPage ap = new AccountPage(driver);
-        ap.ensureTwoAccounts();
+        AccountPage ap = new AccountPage(getDriver());
+        ensureTwoAccounts(ap);
 
         loanPage.open();
 
         // 🔧 Fallback retry if loan form doesn't load
         try {
-            new WebDriverWait(driver, Duration.ofSeconds(10))
+            new DeadlineWait(getDriver(), Duration.ofSeconds(10))
                 .until(ExpectedConditions.visibilityOfElementLocated(By.id("amount")));
         } catch (TimeoutException e) {
             System.out.println("⚠️ First attempt failed — retrying loan form load");
-            driver.navigate().refresh();
+            getDriver().navigate().refresh();
             safeSleep(1000);
-            new WebDriverWait(driver, Duration.ofSeconds(10))
+            new DeadlineWait(getDriver(), Duration.ofSeconds(10))
                 .until(ExpectedConditions.visibilityOfElementLocated(By.id("amount")));
         }
 
@@ -198,7 +200,7 @@ public class LoanTests extends BaseTest {
         loanPage.selectFromAccount(accountId);
 
         String balance = loanPage.getBalanceForAccount(accountId);
-        test.info("Selected account balance: " + balance);
+        getTest().info("Selected account balance: " + balance);
         if (balance.startsWith("-") || balance.equals("$0.00")) {
             List<String> validAccounts = loanPage.getAllAccountIds().stream()
                 .filter(acc -> {
@@ -215,7 +217,7 @@ public class LoanTests extends BaseTest {
             accountId = validAccounts.get(0);
             loanPage.selectFromAccount(accountId);
             balance = loanPage.getBalanceForAccount(accountId);
-            test.info("Fallback account selected: " + accountId + " → Balance: " + balance);
+            getTest().info("Fallback account selected: " + accountId + " → Balance: " + balance);
         }
 
         loanPage.enterAmount("5000");
@@ -223,34 +225,34 @@ public class LoanTests extends BaseTest {
         loanPage.clickApply();
 
         String rawResult = loanPage.getResult();
-        test.info("Raw loan result: " + rawResult);
+        getTest().info("Raw loan result: " + rawResult);
         String result = rawResult.trim().toLowerCase();
-        test.info("Loan result: " + result);
+        getTest().info("Loan result: " + result);
         Assert.assertTrue(result.contains("approved") || result.contains("congratulations"), "❌ Loan not approved as expected");
-        test.pass("Loan approved successfully");
+        getTest().pass("Loan approved successfully");
         captureScreenshot("LoanApproved_" + accountId);
     }
 
 
     @Test(priority = 1)
     public void testLoanTyping() {
-        test = extent.createTest("Test Loan Typing");
-        LoanPage loanPage = new LoanPage(driver);
+        createTest("Test Loan Typing");
+        LoanPage loanPage = new LoanPage(getDriver());
         if (!loanPage.isSessionActive()) {
-            test.skip("Session ended — skipping test");
+            getTest().skip("Session ended — skipping test");
             throw new SkipException("Session ended");
         }
 
         loginAsJohn();
-        AccountPage ap = new AccountPage(driver);
-        ap.ensureTwoAccounts();
+        AccountPage ap = new AccountPage(getDriver());
+        ensureTwoAccounts(ap);
 
-        LoanPage loan = new LoanPage(driver);
+        LoanPage loan = new LoanPage(getDriver());
         loan.open();
         loan.enterAmount("5000");
         loan.enterDownPayment("500");
         loan.logout(); // ensures clean state
-        test.pass("Loan typing test completed");
+        getTest().pass("Loan typing test completed");
     }
 }
 
@@ -2,7 +2,11 @@ package com.fintech.tests;
 
 import com.fintech.pages.NavigationPage;
 import com.fintech.pages.BasePage;
-import com.fintech.utils.TestDataProvider;
+import com.fintech.utils.ConfigReader;
+import com.fintech.utils.DeadlineWait;
+import com.fintech.utils.NavigationTiming;
+import com.fintech.assertions.AssertUtils;
+import com.fintech.dataproviders.ExcelDataProviders;
 
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
@@ -20,26 +24,27 @@ import java.util.NoSuchElementException;
 public class NavigationUITests extends BaseTest {
 
     // ✅ Excel-driven navigation test
-    @Test(dataProvider = "navLinksExcel", dataProviderClass = TestDataProvider.class)
+    @Test(dataProvider = "navLinksExcel", dataProviderClass = ExcelDataProviders.class)
     public void topNavLinksLoadPages(String linkText, String expectedUrlFragment, Class<?> expectedPageClass) {
-        test = extent.createTest("NavLink → " + linkText);
-        test.assignCategory("Navigation");
-        test.info("Clicked on: " + linkText);
+        createTest("NavLink → " + linkText);
+        getTest().assignCategory("Navigation");
+        getTest().info("Clicked on: " + linkText);
 
         loginAsJohn();
         safeSleep(1000);
 
-        NavigationPage nav = new NavigationPage(driver);
+        NavigationPage nav = new NavigationPage(getDriver());
         nav.clickNavLink(linkText);
 
-        test.info("Current URL: " + driver.getCurrentUrl());
-        test.info("Page Title: " + driver.getTitle());
+        getTest().info("Current URL: " + getDriver().getCurrentUrl());
+        getTest().info("Page Title: " + getDriver().getTitle());
 
-        Assert.assertTrue(driver.getCurrentUrl().contains(expectedUrlFragment), "Should land on correct page");
+        Assert.assertTrue(getDriver().getCurrentUrl().contains(expectedUrlFragment), "Should land on correct page");
 
-        BasePage page = (BasePage) PageFactory.initElements(driver, expectedPageClass);
+        BasePage page = (BasePage) PageFactory.initElements(getDriver(), expectedPageClass);
         Assert.assertTrue(page.isLoaded(), linkText + " page should load");
-        test.pass(linkText + " navigation validated");
+        AssertUtils.assertNavigationWithinBudget(NavigationTiming.current());
+        getTest().pass(linkText + " navigation validated");
     }
 
     @Test
@@ -47,17 +52,17 @@ public class NavigationUITests extends BaseTest {
         loginAsJohn();
         safeSleep(1000);
 
-        NavigationPage nav = new NavigationPage(driver);
+        NavigationPage nav = new NavigationPage(getDriver());
         nav.clickLogo();
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new DeadlineWait(getDriver(), Duration.ofSeconds(10));
         wait.until(ExpectedConditions.urlContains("index.htm"));
 
-        System.out.println("Current URL: " + driver.getCurrentUrl());
-        System.out.println("Current Title: " + driver.getTitle());
+        System.out.println("Current URL: " + getDriver().getCurrentUrl());
+        System.out.println("Current Title: " + getDriver().getTitle());
 
-        Assert.assertTrue(driver.getTitle().contains("Welcome"), "Should redirect to homepage");
-        test.pass("Logo redirect to homepage validated");
+        Assert.assertTrue(getDriver().getTitle().contains("Welcome"), "Should redirect to homepage");
+        getTest().pass("Logo redirect to homepage validated");
     }
 
     @Test
@@ -73,14 +78,14 @@ public class NavigationUITests extends BaseTest {
         Assert.assertTrue(isButtonVisibleAndClickable(By.linkText("Open New Account")),
             "Open New Account button should be visible and clickable");
 
-        test.pass("All major buttons are visible and clickable");
+        getTest().pass("All major buttons are visible and clickable");
     }
 
     @Test
     public void verifyFontAndAlignment() {
         loginAsJohn();
 
-        NavigationPage nav = new NavigationPage(driver);
+        NavigationPage nav = new NavigationPage(getDriver());
         By header = By.cssSelector("h1, h2");
 
         String font = nav.getFontFamily(header);
@@ -88,53 +93,53 @@ public class NavigationUITests extends BaseTest {
 
         System.out.println("Font: " + font);
         System.out.println("Alignment: " + align);
-        System.out.println("Full font CSS: " + driver.findElement(header).getAttribute("style"));
+        System.out.println("Full font CSS: " + getDriver().findElement(header).getAttribute("style"));
 
         Assert.assertTrue(align.equals("center") || align.equals("start"), "Text should be center or start aligned");
         Assert.assertTrue(font.contains("Arial") || font.contains("sans-serif"), "Font should be consistent");
-        test.pass("Font and alignment validated");
+        getTest().pass("Font and alignment validated");
     }
 
     @Test
     public void validateAlertBoxContent() {
         loginAsJohn();
 
-        test = extent.createTest("Scenario: Validate Alert Box");
-        test.assignCategory("UI Validation");
+        createTest("Scenario: Validate Alert Box");
+        getTest().assignCategory("UI Validation");
 
-        System.out.println("Current URL: " + driver.getCurrentUrl());
-        System.out.println("Page Title: " + driver.getTitle());
+        System.out.println("Current URL: " + getDriver().getCurrentUrl());
+        System.out.println("Page Title: " + getDriver().getTitle());
 
-        ((JavascriptExecutor) driver).executeScript("alert('Success');");
-        test.info("Simulated alert using JavaScript");
+        ((JavascriptExecutor) getDriver()).executeScript("alert('Success');");
+        getTest().info("Simulated alert using JavaScript");
 
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = new DeadlineWait(getDriver(), Duration.ofSeconds(10));
             Alert alert = wait.until(ExpectedConditions.alertIsPresent());
 
             String alertText = alert.getText();
             System.out.println("Alert Text: " + alertText);
-            test.info("Alert Text: " + alertText);
+            getTest().info("Alert Text: " + alertText);
 
             Assert.assertTrue(alertText.contains("Success"), "Alert should show success message");
             alert.accept();
-            test.pass("Alert box content and styling validated");
+            getTest().pass("Alert box content and styling validated");
         } catch (Exception e) {
-            test.fail("Alert handling failed: " + e.getMessage());
+            getTest().fail("Alert handling failed: " + e.getMessage());
             Assert.fail("Alert was not handled properly");
         }
     }
 
     @Test
     public void checkParaBankConnectivity() {
-        driver.get("https://parabank.parasoft.com/parabank/index.htm");
-        System.out.println("Title: " + driver.getTitle());
-        Assert.assertTrue(driver.getTitle().contains("ParaBank"), "Title should contain ParaBank");
+        getDriver().get(ConfigReader.pageUrl("index.htm"));
+        System.out.println("Title: " + getDriver().getTitle());
+        Assert.assertTrue(getDriver().getTitle().contains("ParaBank"), "Title should contain ParaBank");
     }
 
     private boolean isButtonVisibleAndClickable(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
+            WebElement element = getDriver().findElement(locator);
             return element.isDisplayed() && element.isEnabled();
         } catch (NoSuchElementException e) {
             System.out.println("Element not found: " + locator);
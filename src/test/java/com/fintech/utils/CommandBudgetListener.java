@@ -0,0 +1,24 @@
+package com.fintech.utils;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+// 🔹 Fails a passing test whose WebDriver command count exceeds commandBudget(.<group>).
+//    Runs right after the test method — status changes made later, in @AfterMethod, are not seen by TestNG.
+public class CommandBudgetListener implements IInvokedMethodListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod() || result.getStatus() != ITestResult.SUCCESS) return;
+
+        CommandStats.TestCommands commands = CommandStats.current();
+        if (commands == null) return;
+
+        long budget = CommandStats.budgetFor(result.getMethod().getGroups());
+        if (budget > 0 && commands.total() > budget) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError("❌ " + commands.total() + " WebDriver commands exceeds the budget of " + budget));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.fintech.utils;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+public class ParallelSuiteConfigurer implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String mode = ConfigReader.get("parallel.mode", "");
+        if (mode.isBlank()) return;
+
+        XmlSuite.ParallelMode parallel = XmlSuite.ParallelMode.getValidParallel(mode);
+        for (XmlSuite suite : suites) {
+            suite.setParallel(parallel);
+            if (parallel == XmlSuite.ParallelMode.METHODS || parallel == XmlSuite.ParallelMode.CLASSES) {
+                suite.setThreadCount(resolveThreadCount());
+            }
+            System.out.println("⚙️ Suite '" + suite.getName() + "' → parallel=" + parallel
+                + ", thread-count=" + suite.getThreadCount());
+        }
+    }
+
+    // 🔹 "auto" = one browser per core, capped by how many browsers fit in free physical memory
+    static int resolveThreadCount() {
+        String configured = ConfigReader.get("parallel.threadCount", "auto");
+        if (!configured.equalsIgnoreCase("auto")) {
+            return Math.max(1, Integer.parseInt(configured.trim()));
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        long perBrowserMb = Long.parseLong(ConfigReader.get("parallel.memoryPerBrowserMb", "512"));
+        long freeMb = freePhysicalMemoryMb();
+        int byMemory = freeMb > 0 ? (int) Math.max(1, freeMb / perBrowserMb) : cores;
+
+        int threads = Math.max(1, Math.min(cores, byMemory));
+        System.out.println("⚙️ Auto thread-count → cores: " + cores + ", free memory: " + freeMb
+            + " MB, browsers by memory: " + byMemory + " → " + threads);
+        return threads;
+    }
+
+    private static long freePhysicalMemoryMb() {
+        try {
+            var os = (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+            return os.getFreeMemorySize() / (1024 * 1024);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+}
@@ -10,6 +10,8 @@ public class RetryAnalyzer implements IRetryAnalyzer {
 
     @Override
     public boolean retry(ITestResult result) {
-        return retryCount++ < maxRetryCount;
+        if (retryCount++ >= maxRetryCount) return false;
+        SuiteMetrics.increment("parabank_test_retries_total", "test", result.getName());
+        return true;
     }
 }
@@ -12,6 +12,7 @@ public class RetryFailedTests implements IRetryAnalyzer {
         System.out.println("🔁 Retrying test: " + result.getName());
         if (retryCount < maxRetryCount) {
             retryCount++;
+            SuiteMetrics.increment("parabank_test_retries_total", "test", result.getName());
             return true;
         }
         return false;
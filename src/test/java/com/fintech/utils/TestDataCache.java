@@ -0,0 +1,114 @@
+package com.fintech.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.DataProvider;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 🔹 Parse each runtime data file (JSON) once per JVM and provider; ChromeRun and EdgeRun share the same rows.
+//    The provider id is part of the key because two providers may map the same file to different rows.
+public class TestDataCache {
+
+    private record Key(String provider, String path, long modified) {}
+
+    private static final Map<Key, CompletableFuture<List<Object[]>>> cache = new ConcurrentHashMap<>();
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    public static Iterator<Object[]> json(String provider, String path, Function<Map<String, Object>, Object[]> entryMapper) {
+        return rows(provider, path, () -> {
+            try {
+                List<Map<String, Object>> entries = mapper.readValue(new File(path), new TypeReference<List<Map<String, Object>>>() {});
+                return entries.stream().map(entryMapper).toList();
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to read test data: " + path, e);
+            }
+        });
+    }
+
+    // 🔹 Hand out copies so a test mutating its parameters can't leak into the next invocation
+    private static Iterator<Object[]> rows(String provider, String path, Supplier<List<Object[]>> parser) {
+        return load(new Key(provider, path, lastModified(path)), parser).stream()
+            .map(Object[]::clone)
+            .iterator();
+    }
+
+    private static List<Object[]> load(Key key, Supplier<List<Object[]>> parser) {
+        try (FlightEvents.DataLoad event = FlightEvents.dataLoad(key.path())) {
+            CompletableFuture<List<Object[]>> created = new CompletableFuture<>();
+            CompletableFuture<List<Object[]>> existing = cache.putIfAbsent(key, created);
+            event.cacheHit = existing != null;
+            List<Object[]> rows = existing != null ? existing.join() : parse(key, parser, created);
+            event.rows = rows.size();
+            return rows;
+        }
+    }
+
+    private static List<Object[]> parse(Key key, Supplier<List<Object[]>> parser, CompletableFuture<List<Object[]>> created) {
+        try {
+            long start = System.nanoTime();
+            created.complete(List.copyOf(parser.get()));
+            cache.keySet().removeIf(k -> k.provider().equals(key.provider()) && k.path().equals(key.path()) && k.modified() != key.modified());
+            System.out.println("📦 Cached " + key.path() + " [" + key.provider() + "] in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (Throwable e) {
+            // Any failure, Errors included, must complete the future — other threads are blocked in join()
+            cache.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created.join();
+    }
+
+    private static long lastModified(String path) {
+        try {
+            return Files.getLastModifiedTime(Paths.get(path)).toMillis();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    // 🔹 Suite start: run every no-arg @DataProvider once, in parallel, to fill the cache
+    public static void preload(Class<?>... providerClasses) {
+        long start = System.nanoTime();
+        List<Future<?>> loads = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Class<?> providerClass : providerClasses) {
+                for (Method method : providerClass.getMethods()) {
+                    if (method.isAnnotationPresent(DataProvider.class) && method.getParameterCount() == 0) {
+                        loads.add(executor.submit(() -> invoke(providerClass, method)));
+                    }
+                }
+            }
+        }
+
+        for (Future<?> load : loads) {
+            try {
+                load.get();
+            } catch (Exception e) {
+                System.out.println("⚠️ Test data preload failed: " + e.getMessage());
+            }
+        }
+        System.out.println("📦 Test data preloaded → " + loads.size() + " providers in "
+            + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    private static Void invoke(Class<?> providerClass, Method method) throws Exception {
+        Object target = Modifier.isStatic(method.getModifiers()) ? null : providerClass.getDeclaredConstructor().newInstance();
+        method.invoke(target);
+        return null;
+    }
+}